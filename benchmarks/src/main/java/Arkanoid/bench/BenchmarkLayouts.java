@@ -0,0 +1,53 @@
+package Arkanoid.bench;
+
+import Arkanoid.level.Level;
+import Arkanoid.level.LevelData;
+import Arkanoid.util.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generated brick layouts shared by the benchmarks.
+ */
+final class BenchmarkLayouts {
+    /** Rows that fit between the HUD and the paddle with room for the ball. */
+    static final int MAX_ROWS = 16;
+
+    private BenchmarkLayouts() { }
+
+    /**
+     * Fills the level grid row by row with {@code brickCount} bricks (at most
+     * MAX_ROWS x BRICK_COLS); every n-th brick moves so that about {@code movingRatio} of them do.
+     */
+    static LevelData levelData(int brickCount, double movingRatio, String type) {
+        LevelData data = new LevelData();
+        data.setLevelNumber(1);
+        data.setName("Benchmark " + brickCount);
+        data.setBallSpeed(Constants.BALL_SPEED);
+        data.setLives(3);
+
+        int count = Math.min(brickCount, MAX_ROWS * Constants.BRICK_COLS);
+        int movingEvery = movingRatio <= 0 ? 0 : (int) Math.max(1, Math.round(1.0 / movingRatio));
+        List<LevelData.BrickData> bricks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LevelData.BrickData brick = new LevelData.BrickData(
+                    i / Constants.BRICK_COLS, i % Constants.BRICK_COLS, type, "#FF0000");
+            if (movingEvery > 0 && i % movingEvery == 0) {
+                brick.setMoving(true);
+                brick.setDirection(i % 2 == 0 ? "HORIZONTAL" : "VERTICAL");
+                brick.setSpeed(40.0);
+                brick.setRange(30.0);
+            }
+            bricks.add(brick);
+        }
+        data.setBricks(bricks);
+        return data;
+    }
+
+    static Level level(int brickCount, double movingRatio, String type) {
+        Level level = new Level(levelData(brickCount, movingRatio, type));
+        level.initialize();
+        return level;
+    }
+}
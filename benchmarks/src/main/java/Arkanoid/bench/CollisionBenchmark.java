@@ -0,0 +1,93 @@
+package Arkanoid.bench;
+
+import Arkanoid.manager.BrickGrid;
+import Arkanoid.manager.CollisionManager;
+import Arkanoid.model.Ball;
+import Arkanoid.model.Brick;
+import Arkanoid.model.Paddle;
+import Arkanoid.util.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-ball collision tests: grid broadphase vs. the linear list scan, and ball/paddle.
+ * The ball is placed at precomputed random positions over the brick field so hits and
+ * misses are mixed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    private static final int POSITIONS = 1024;
+
+    @Param({"40", "80", "160"})
+    int brickCount;
+
+    private CollisionManager collisionManager;
+    private List<Brick> bricks;
+    private BrickGrid grid;
+    private Paddle paddle;
+    private Ball ball;
+    private double[] xs;
+    private double[] ys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        collisionManager = new CollisionManager();
+        bricks = BenchmarkLayouts.level(brickCount, 0, "UNBREAKABLE").getBricks();
+        grid = new BrickGrid();
+        grid.rebuild(bricks);
+        paddle = new Paddle();
+        ball = new Ball(paddle);
+        ball.setStuck(false);
+
+        Random random = new Random(42);
+        xs = new double[POSITIONS];
+        ys = new double[POSITIONS];
+        double fieldBottom = Constants.BRICK_OFFSET_Y
+                + BenchmarkLayouts.MAX_ROWS * (Constants.BRICK_HEIGHT + Constants.BRICK_PADDING);
+        for (int i = 0; i < POSITIONS; i++) {
+            xs[i] = random.nextDouble() * (Constants.WINDOW_WIDTH - ball.getWidth());
+            ys[i] = Constants.BRICK_OFFSET_Y + random.nextDouble() * (fieldBottom - Constants.BRICK_OFFSET_Y);
+        }
+    }
+
+    private void placeBall(double x, double y, double vy) {
+        ball.setX(x);
+        ball.setY(y);
+        ball.setSmoothX(x);
+        ball.setSmoothY(y);
+        ball.setVelocityX(3);
+        ball.setVelocityY(vy);
+    }
+
+    @Benchmark
+    public Brick ballBrickGrid() {
+        int i = next++ & (POSITIONS - 1);
+        placeBall(xs[i], ys[i], -3);
+        return collisionManager.checkBallBrickCollision(ball, grid);
+    }
+
+    @Benchmark
+    public Brick ballBrickLinear() {
+        int i = next++ & (POSITIONS - 1);
+        placeBall(xs[i], ys[i], -3);
+        return collisionManager.checkBallBrickCollision(ball, bricks);
+    }
+
+    @Benchmark
+    public boolean ballPaddle() {
+        int i = next++ & (POSITIONS - 1);
+        // Alternate between touching the paddle and passing beside it
+        double y = (i & 1) == 0 ? paddle.getY() - ball.getHeight() + 2 : paddle.getY() - 100;
+        placeBall(xs[i], y, 3);
+        return collisionManager.checkBallPaddleCollision(ball, paddle);
+    }
+}
@@ -0,0 +1,86 @@
+package Arkanoid.bench;
+
+import Arkanoid.engine.GameEngine;
+import Arkanoid.engine.SoundSink;
+import Arkanoid.level.LevelData;
+import Arkanoid.level.LevelManager;
+import Arkanoid.model.Ball;
+import Arkanoid.model.GameState;
+import Arkanoid.model.Paddle;
+import Arkanoid.util.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one fixed simulation step (what GameManager.update delegates to), in steady state.
+ * Bricks are unbreakable so the layout size stays at the parameter for the whole run; a
+ * single off-screen breakable sentinel keeps the level from counting as complete.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+    @Param({"40", "80", "160"})
+    int brickCount;
+
+    @Param({"1", "5"})
+    int ballCount;
+
+    @Param({"0.0", "0.25", "1.0"})
+    double movingRatio;
+
+    private GameEngine engine;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LevelData data = BenchmarkLayouts.levelData(brickCount, movingRatio, "UNBREAKABLE");
+        // Sentinel below the playfield: never hit, so the level never completes
+        data.getBricks().add(new LevelData.BrickData(40, 0, "NORMAL", "#FF0000"));
+
+        LevelManager levelManager = new LevelManager();
+        levelManager.addLevel(new Arkanoid.level.Level(data));
+
+        random = new Random(42);
+        engine = new GameEngine(levelManager, SoundSink.NONE, random);
+        engine.startGame();
+        engine.getScoreManager().setLives(Integer.MAX_VALUE);
+        topUpBalls();
+    }
+
+    @Benchmark
+    public void update() {
+        trackBall();
+        engine.update(Constants.FIXED_TIMESTEP);
+        topUpBalls();
+    }
+
+    /** Simple paddle AI so balls keep bouncing instead of draining. */
+    private void trackBall() {
+        List<Ball> balls = engine.getBalls();
+        if (balls.isEmpty()) return;
+        Paddle paddle = engine.getPaddle();
+        double target = balls.get(0).getCenterX();
+        paddle.setMovingLeft(target < paddle.getCenterX() - 10);
+        paddle.setMovingRight(target > paddle.getCenterX() + 10);
+    }
+
+    private void topUpBalls() {
+        if (engine.getCurrentState() != GameState.PLAYING) {
+            engine.setCurrentState(GameState.PLAYING);
+        }
+        List<Ball> balls = engine.getBalls();
+        while (balls.size() < ballCount) {
+            Ball ball = new Ball(engine.getPaddle());
+            ball.setBaseSpeed(Constants.BALL_SPEED);
+            ball.launch(-60 - random.nextDouble() * 60);
+            balls.add(ball);
+        }
+    }
+}
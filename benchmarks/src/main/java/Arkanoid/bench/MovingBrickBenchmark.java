@@ -0,0 +1,64 @@
+package Arkanoid.bench;
+
+import Arkanoid.manager.BrickGrid;
+import Arkanoid.model.Brick;
+import Arkanoid.model.MovingBrick;
+import Arkanoid.model.Tickable;
+import Arkanoid.util.ActiveList;
+import Arkanoid.util.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Brick tick cost per frame: MovingBrick.update plus re-indexing in the broadphase grid,
+ * across layout sizes and moving-brick ratios. {@code updateAllBricks} is the old scan over
+ * every brick; {@code updateActiveEntities} ticks only the level's active list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovingBrickBenchmark {
+    @Param({"40", "80", "160"})
+    int brickCount;
+
+    @Param({"0.0", "0.25", "1.0"})
+    double movingRatio;
+
+    private List<Brick> bricks;
+    private BrickGrid grid;
+    private ActiveList<Tickable> active;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Arkanoid.level.Level level = BenchmarkLayouts.level(brickCount, movingRatio, "NORMAL");
+        bricks = level.getBricks();
+        active = level.getActiveEntities();
+        grid = new BrickGrid();
+        grid.rebuild(bricks);
+    }
+
+    @Benchmark
+    public void updateAllBricks() {
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
+            brick.update(Constants.FIXED_TIMESTEP);
+            if (brick instanceof MovingBrick) {
+                grid.update(brick);
+            }
+        }
+    }
+
+    @Benchmark
+    public void updateActiveEntities() {
+        for (int i = 0; i < active.size(); i++) {
+            Tickable entity = active.get(i);
+            entity.update(Constants.FIXED_TIMESTEP);
+            grid.update((Brick) entity);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package Arkanoid;
 
+import Arkanoid.audio.SoundManager;
+import Arkanoid.engine.WorldSnapshot;
+import Arkanoid.jfr.FrameTickEvent;
 import Arkanoid.level.LevelSelectionView;
 import Arkanoid.manager.GameManager;
 import Arkanoid.model.GameState;
+import Arkanoid.util.Constants;
+import Arkanoid.util.FixedTimestep;
+import Arkanoid.util.FrameMetrics;
+import Arkanoid.util.Log;
 import Arkanoid.view.GameView;
 import javafx.animation.AnimationTimer;
 import javafx.application.Application;
@@ -24,12 +31,20 @@ public class Main extends Application {
     public void start(Stage primaryStage) {
         this.primaryStage = primaryStage;
 
+        if (Constants.LOG_DUMP_ON_CRASH) {
+            // Uncaught exceptions write the recent log ring to arkanoid-crash-<millis>.log
+            Log.installCrashHandler();
+        }
+
         // Initialize game manager
         gameManager = new GameManager();
 
         // Initialize game view
         gameView = new GameView(gameManager);
 
+        // ✅ Assets are loading on worker threads; show the menu as soon as its part is in
+        gameManager.enterMenuWhenLoaded();
+
         // Initialize level selection view
         levelSelectionView = new LevelSelectionView(primaryStage, gameManager.getLevelManager());
         levelSelectionView.setCallback(new LevelSelectionView.LevelSelectionCallback() {
@@ -82,20 +97,65 @@ public class Main extends Application {
 
     private void startGameLoop() {
         final long[] lastUpdate = {System.nanoTime()};
+        final FixedTimestep timestep = new FixedTimestep(Constants.FIXED_TIMESTEP, Constants.MAX_FRAME_TIME);
+        final FrameMetrics metrics = FrameMetrics.getInstance();
+
+        if (Constants.SIMULATION_THREAD_ENABLED) {
+            // Simulation runs on its own thread; this timer only renders the latest snapshot
+            gameManager.startSimulationThread();
+        }
 
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                double deltaTime = (now - lastUpdate[0]) / 1_000_000_000.0;
+                long frameNanos = now - lastUpdate[0];
+                double deltaTime = frameNanos / 1_000_000_000.0;
                 lastUpdate[0] = now;
 
-                deltaTime = Math.min(deltaTime, 0.05);
+                // ✅ Music ducking envelope advances every pulse, also outside the game view
+                SoundManager soundManager = SoundManager.getInstance();
+                soundManager.tick(now);
 
                 // ⚠️ CRITICAL: Chỉ update khi ở GameView VÀ đang PLAYING
-                if (primaryStage.getScene() == gameView.getScene()) {
-                    gameManager.update(deltaTime);
+                if (primaryStage.getScene() != gameView.getScene()) {
+                    timestep.reset();
+                    soundManager.flushEvents();
+                    return;
+                }
+
+                FrameTickEvent tick = new FrameTickEvent();
+                tick.begin();
+                int steps = 0;
+
+                if (gameManager.isSimulationThreaded()) {
+                    WorldSnapshot snapshot = gameManager.acquireSnapshot();
+                    gameView.render(snapshot, snapshot.alphaAt(System.nanoTime()));
+                } else if (Constants.FIXED_TIMESTEP_ENABLED) {
+                    // Run the simulation at a fixed rate, render interpolated between steps
+                    steps = timestep.advance(deltaTime);
+                    for (int i = 0; i < steps; i++) {
+                        gameManager.update(timestep.getStep());
+                    }
+                    gameView.render(gameManager, timestep.getAlpha());
+                } else {
+                    steps = 1;
+                    gameManager.update(Math.min(deltaTime, 0.05));
                     gameView.render(gameManager);
                 }
+
+                if (tick.shouldCommit()) {
+                    tick.state = gameManager.getCurrentState().name();
+                    tick.simulationSteps = steps;
+                    tick.frameInterval = frameNanos;
+                    tick.commit();
+                }
+
+                // ✅ Audio stage: play this frame's queued cues once, merged by sound id
+                soundManager.flushEvents();
+
+                // ✅ Frame interval, GC time and sound count for the F3 panel / CSV export
+                metrics.record(FrameMetrics.Metric.FRAME, frameNanos);
+                metrics.endFrame();
             }
         };
 
@@ -104,7 +164,7 @@ public class Main extends Application {
 
     @Override
     public void stop() {
-        System.out.println("🛑 Application stopping...");
+        Log.info("🛑 Application stopping...");
 
         if (gameLoop != null) {
             gameLoop.stop();
@@ -114,7 +174,8 @@ public class Main extends Application {
             gameManager.shutdown();
         }
 
-        System.out.println("✅ Application stopped cleanly");
+        Log.info("✅ Application stopped cleanly");
+        Log.flush();
     }
 
     public static void main(String[] args) {
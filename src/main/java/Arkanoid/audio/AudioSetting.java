@@ -1,5 +1,6 @@
 package Arkanoid.audio;
 
+import Arkanoid.util.Log;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
@@ -81,7 +82,7 @@ public class AudioSetting {
         try (Writer w = new OutputStreamWriter(new FileOutputStream(SETTINGS_FILE), StandardCharsets.UTF_8)) {
             GSON.toJson(this, w);
         } catch (IOException e) {
-            System.err.println("Failed to save settings: " + e.getMessage());
+            Log.warn("Failed to save settings: " + e.getMessage());
         }
     }
 
@@ -104,7 +105,7 @@ public class AudioSetting {
                 this.mute = loaded.mute;
             }
         } catch (IOException e) {
-            System.err.println("Failed to load settings: " + e.getMessage());
+            Log.warn("Failed to load settings: " + e.getMessage());
         }
         apply();
     }
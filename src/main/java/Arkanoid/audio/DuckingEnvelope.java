@@ -0,0 +1,30 @@
+package Arkanoid.audio;
+
+/**
+ * Gain curve for ducking music under effects. Every duck extends one shared hold window,
+ * so overlapping effects merge into a single dip instead of racing restore timers; after
+ * the hold the duck fades out linearly over the release time.
+ * {@link #amountAt} is 1 while fully ducked and 0 when music is at its normal level.
+ */
+public class DuckingEnvelope {
+    private final long releaseNanos;
+    private long holdUntil = Long.MIN_VALUE;
+
+    public DuckingEnvelope(long releaseNanos) {
+        this.releaseNanos = releaseNanos;
+    }
+
+    /** Ducks fully from now until at least now + holdNanos; may be called from any thread. */
+    public synchronized void duck(long nowNanos, long holdNanos) {
+        holdUntil = Math.max(holdUntil, nowNanos + holdNanos);
+    }
+
+    /** @return duck amount at the given time, 0..1 */
+    public synchronized double amountAt(long nowNanos) {
+        if (holdUntil == Long.MIN_VALUE) return 0;
+        long sinceHold = nowNanos - holdUntil;
+        if (sinceHold <= 0) return 1;
+        if (sinceHold >= releaseNanos) return 0;
+        return 1.0 - (double) sinceHold / releaseNanos;
+    }
+}
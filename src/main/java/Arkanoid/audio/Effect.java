@@ -1,27 +1,67 @@
 package Arkanoid.audio;
 
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.MediaException;
+
 import java.awt.Toolkit;
 
 public class Effect extends SoundAbstract {
+    /** Preloaded voices per effect, i.e. how many copies may overlap. */
+    public static final int DEFAULT_VOICES = 4;
+
+    private final VoicePool pool;
+
     /**
      * Constructor for Effect class.
      *
      * @param soundPath Path to the sound file.
      */
     public Effect(String soundPath) {
+        this(soundPath, DEFAULT_VOICES, SoundManager.getInstance().getVoiceLimiter());
+    }
+
+    /**
+     * @param soundPath Path to the sound file.
+     * @param voices    maximum overlapping plays of this effect
+     * @param limiter   global cap shared by all effects
+     */
+    public Effect(String soundPath, int voices, VoiceLimiter limiter) {
         load(soundPath);
+        this.pool = clip != null ? new VoicePool(createVoices(voices), limiter) : null;
+    }
+
+    /** Voice 0 reuses the loaded clip; the others are separate clips decoded up front. */
+    private Voice[] createVoices(int count) {
+        Voice[] voices = new Voice[count];
+        voices[0] = new ClipVoice(clip);
+        for (int i = 1; i < count; i++) {
+            try {
+                voices[i] = new ClipVoice(new AudioClip(clip.getSource()));
+            } catch (MediaException ex) {
+                voices[i] = voices[0];
+            }
+        }
+        return voices;
     }
 
     /**
-     * Plays the sound effect from the beginning.
+     * Plays the sound effect from the beginning on a free voice; overlapping plays no
+     * longer cut each other off.
      */
     @Override
     public void play() {
-        if (clip != null) {
-            // AudioClip play() already starts from the beginning by default
-            clip.stop();
-            clip.setCycleCount(1);
-            clip.play();
+        play(1.0, 0.0);
+    }
+
+    /**
+     * Plays with per-cue hints on top of the effect's own volume.
+     * @param gain relative loudness, 0.0-1.0
+     * @param pan  -1.0 (left) to 1.0 (right)
+     */
+    public void play(double gain, double pan) {
+        if (pool != null) {
+            double v = Math.max(0.0, Math.min(1.0, volume * gain));
+            pool.trigger(System.nanoTime(), v, Math.max(-1.0, Math.min(1.0, pan)));
         } else {
             // Fallback: system beep if no valid clip (e.g., zero-byte WAVs)
             try { Toolkit.getDefaultToolkit().beep(); } catch (Throwable ignored) {}
@@ -33,8 +73,20 @@ public class Effect extends SoundAbstract {
      */
     @Override
     public void stop() {
-        if (clip != null) {
-            clip.stop();
+        if (pool != null) {
+            pool.stopAll();
         }
     }
+
+    private static final class ClipVoice implements Voice {
+        private final AudioClip clip;
+
+        ClipVoice(AudioClip clip) {
+            this.clip = clip;
+        }
+
+        @Override public void play(double volume, double pan) { clip.play(volume, 0.0, 1.0, pan, 1); }
+        @Override public void stop() { clip.stop(); }
+        @Override public boolean isPlaying() { return clip.isPlaying(); }
+    }
 }
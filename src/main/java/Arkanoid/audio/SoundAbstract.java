@@ -1,5 +1,6 @@
 package Arkanoid.audio;
 
+import Arkanoid.util.Log;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.MediaException;
 import java.io.File;
@@ -20,9 +21,9 @@ public abstract class SoundAbstract implements SoundInterface{
         try {
             clip = new AudioClip(url);
             setVolume(volume);
-            System.out.println("Loaded sound: " + soundPath);
+            Log.info("Loaded sound: " + soundPath);
         } catch (MediaException ex) {
-            System.err.println("Failed to load sound '" + soundPath + "': " + ex.getMessage());
+            Log.warn("Failed to load sound '" + soundPath + "': " + ex.getMessage());
             clip = null;
         }
     }
@@ -0,0 +1,70 @@
+package Arkanoid.audio;
+
+/**
+ * Sound cues collected during a frame and played together at its end.
+ * Storage is one preallocated slot per {@link SoundId}: a cue for an id already queued
+ * this frame is merged into it (loudest volume wins, pan is averaged), so ten brick
+ * breaks in one frame become one playback and the queue can never overflow.
+ * Game code may push from the simulation thread while the FX thread drains.
+ */
+public class SoundEventQueue {
+    /** Receives one merged cue during {@link #drain}. */
+    public interface Consumer {
+        void play(SoundId id, float volume, float pan);
+    }
+
+    private static final SoundId[] IDS = SoundId.values();
+
+    private final int[] order = new int[IDS.length];      // queued ordinals, first-seen order
+    private final float[] volume = new float[IDS.length];
+    private final float[] panSum = new float[IDS.length];
+    private final int[] hits = new int[IDS.length];        // 0 = not queued this frame
+    private int size;
+
+    // Drain-side copy so cues are played outside the lock
+    private final int[] drainOrder = new int[IDS.length];
+    private final float[] drainVolume = new float[IDS.length];
+    private final float[] drainPan = new float[IDS.length];
+
+    /** Queues a cue; merges with an identical id already queued this frame. */
+    public synchronized void push(SoundId id, float volume, float pan) {
+        int i = id.ordinal();
+        if (hits[i] == 0) {
+            order[size++] = i;
+            this.volume[i] = volume;
+            panSum[i] = pan;
+        } else {
+            this.volume[i] = Math.max(this.volume[i], volume);
+            panSum[i] += pan;
+        }
+        hits[i]++;
+    }
+
+    /**
+     * Plays every merged cue once, in the order the ids were first queued, and empties
+     * the queue.
+     * @return number of cues played
+     */
+    public int drain(Consumer consumer) {
+        int count;
+        synchronized (this) {
+            count = size;
+            for (int n = 0; n < count; n++) {
+                int i = order[n];
+                drainOrder[n] = i;
+                drainVolume[n] = volume[i];
+                drainPan[n] = panSum[i] / hits[i];
+                hits[i] = 0;
+            }
+            size = 0;
+        }
+        for (int n = 0; n < count; n++) {
+            consumer.play(IDS[drainOrder[n]], drainVolume[n], drainPan[n]);
+        }
+        return count;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
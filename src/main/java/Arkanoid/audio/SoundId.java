@@ -0,0 +1,62 @@
+package Arkanoid.audio;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Typed ids for the sounds in the catalog. Plain enum with no audio dependencies, so the
+ * headless engine can name cues without touching JavaFX media.
+ * Each id keeps its old string name as an alias and knows its mixing group, so playback
+ * by id needs neither hashing nor prefix checks.
+ */
+public enum SoundId {
+    EFFECT_WALL("effect_wall", Group.EFFECT),
+    EFFECT_PADDLE("effect_paddle", Group.EFFECT),
+    EFFECT_BRICK("effect_brick", Group.EFFECT),
+    EFFECT_SCORE("effect_score", Group.EFFECT),
+    MUSIC_TITLE("music_title", Group.MUSIC),
+    MUSIC_GAMEOVER("music_gameover", Group.MUSIC),
+    MUSIC_STAGE_START("music_stage_start", Group.MUSIC),
+    AMBIENT_BG("ambient_bg", Group.AMBIENT);
+
+    /** Volume group a sound belongs to. */
+    public enum Group {
+        EFFECT, MUSIC, AMBIENT;
+
+        /** @return group implied by a legacy string name ("effect_…", "ambient_…", else music). */
+        public static Group forName(String name) {
+            if (name.startsWith("effect_")) return EFFECT;
+            if (name.startsWith("ambient_")) return AMBIENT;
+            return MUSIC;
+        }
+    }
+
+    private static final Map<String, SoundId> BY_ALIAS = new HashMap<>();
+    static {
+        for (SoundId id : values()) {
+            BY_ALIAS.put(id.alias, id);
+        }
+    }
+
+    private final String alias;
+    private final Group group;
+
+    SoundId(String alias, Group group) {
+        this.alias = alias;
+        this.group = group;
+    }
+
+    /** @return the id registered under this string name, or null for custom sounds. */
+    public static SoundId fromAlias(String alias) {
+        return BY_ALIAS.get(alias);
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    /** @return the string name this sound is registered under, e.g. "effect_wall". */
+    public String getAlias() {
+        return alias;
+    }
+}
@@ -1,24 +1,46 @@
 package Arkanoid.audio;
 
+import Arkanoid.jfr.SoundPlayEvent;
+import Arkanoid.util.AssetLoader;
+import Arkanoid.util.FrameMetrics;
+import Arkanoid.util.Log;
 import javafx.application.Platform;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class SoundManager {
     private static SoundManager instance;
-    private final Map<String, SoundInterface> sounds = new HashMap<>();
+    // Catalog: array slot per SoundId, string names kept as aliases
+    private final SoundRegistry sounds = new SoundRegistry();
+
+    /** Effect voices allowed to play at once across all effects. */
+    public static final int MAX_EFFECT_VOICES = 6;
+    private final VoiceLimiter voiceLimiter = new VoiceLimiter(MAX_EFFECT_VOICES);
+    // Cues from game code, played once per frame by flushEvents()
+    private final SoundEventQueue events = new SoundEventQueue();
+    private final SoundEventQueue.Consumer player = this::play;
 
     // Mix levels
     private float bgVolume = 0.6f;
     private float ambientVolume = 0.12f;
+    private volatile float effectsVolume = 1.0f;
+
+    // Ducking: effects dip background/ambient by these fractions, merged into one envelope
+    private static final long DUCK_HOLD_NANOS = 250_000_000L;
+    private static final long DUCK_RELEASE_NANOS = 150_000_000L;
+    private static final float DUCK_BG_DEPTH = 0.4f;
+    private static final float DUCK_AMBIENT_DEPTH = 0.3f;
+    private final DuckingEnvelope ducking = new DuckingEnvelope(DUCK_RELEASE_NANOS);
+    private volatile double appliedDuck; // duck amount currently pushed to the players
 
     // Alternating background players
-    private MediaPlayer bgPlayer1;
-    private MediaPlayer bgPlayer2;
+    // Created on an asset loader thread
+    private volatile MediaPlayer bgPlayer1;
+    private volatile MediaPlayer bgPlayer2;
 
     private SoundManager() { }
 
@@ -28,22 +50,75 @@ public class SoundManager {
         return instance;
     }
 
+    /** @return global polyphony cap shared by every {@link Effect}'s voice pool. */
+    public VoiceLimiter getVoiceLimiter() { return voiceLimiter; }
+
     // Catalog management
-    /** Register a sound in the catalog. */
-    public void addSound(String name, SoundInterface sound) { sounds.put(name, sound); }
+    /** Register a sound in the catalog; names matching a {@link SoundId} alias fill its slot. */
+    public void addSound(String name, SoundInterface sound) { sounds.register(name, sound); }
 
-    /** Play a sound by name; applies short ducking for effects. */
+    /** Register a sound under its typed id. */
+    public void addSound(SoundId id, SoundInterface sound) { sounds.register(id, sound); }
+
+    /** Play a sound by name right away; applies short ducking for effects. */
     public void playSound(String name) {
-        SoundInterface sound = sounds.get(name);
+        SoundId id = SoundId.fromAlias(name);
+        if (id != null) {
+            play(id, 1f, 0f);
+        } else {
+            play(name, sounds.get(name), sounds.groupOf(name), 1f, 0f);
+        }
+    }
+
+    /** Play a sound right away by id; an array lookup, no string hashing. */
+    public void playSound(SoundId id) {
+        play(id, 1f, 0f);
+    }
+
+    /**
+     * Queues a cue for the end of the frame; identical cues in one frame are merged.
+     * Safe to call from the simulation thread, does no audio work itself.
+     */
+    public void enqueue(SoundId id, float volume, float pan) {
+        events.push(id, volume, pan);
+    }
+
+    /** Plays the cues queued since the last call; call once at the end of every frame. */
+    public void flushEvents() {
+        events.drain(player);
+    }
+
+    private void play(SoundId id, float volume, float pan) {
+        play(id.getAlias(), sounds.get(id), id.getGroup(), volume, pan);
+    }
+
+    private void play(String name, SoundInterface sound, SoundId.Group group, float volume, float pan) {
+        SoundPlayEvent event = new SoundPlayEvent();
+        event.begin();
+        boolean found = startSound(name, sound, group, volume, pan);
+        if (event.shouldCommit()) {
+            event.sound = name;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+    private boolean startSound(String name, SoundInterface sound, SoundId.Group group, float volume, float pan) {
         if (sound == null) {
-            System.err.println("Sound not found: " + name);
-            return;
+            Log.warn("Sound not found: " + name);
+            return false;
+        }
+        FrameMetrics.getInstance().countSound();
+        // Effects duck the music; applied by the next tick()
+        if (group == SoundId.Group.EFFECT) {
+            ducking.duck(System.nanoTime(), DUCK_HOLD_NANOS);
         }
-        // Simple ducking when an effect plays
-        if (name.startsWith("effect_")) {
-            duckBackgroundForMillis(250);
+        if (sound instanceof Effect) {
+            ((Effect) sound).play(volume, pan);
+        } else {
+            sound.play();
         }
-        sound.play();
+        return true;
     }
 
     /** Stop a sound by name. */
@@ -52,57 +127,84 @@ public class SoundManager {
         if (sound != null) sound.stop();
     }
 
+    public void stopSound(SoundId id) {
+        SoundInterface sound = sounds.get(id);
+        if (sound != null) sound.stop();
+    }
+
     /** Set volume for a named sound (0.0-1.0). */
     public void setVolume(String name, float volume) {
-        SoundInterface sound = sounds.get(name);
+        setVolume(sounds.get(name), volume);
+    }
+
+    public void setVolume(SoundId id, float volume) {
+        setVolume(sounds.get(id), volume);
+    }
+
+    private static void setVolume(SoundInterface sound, float volume) {
         if (sound instanceof SoundAbstract) ((SoundAbstract) sound).setVolume(volume);
     }
 
     /** @return set of available sound names. */
-    public Set<String> getSoundNames() { return sounds.keySet(); }
+    public Set<String> getSoundNames() { return sounds.getNames(); }
 
     /** Stop and clear all registered sounds. */
     public void clearSounds() {
-        for (SoundInterface s : sounds.values()) s.stop();
+        for (SoundInterface s : sounds.getAll()) s.stop();
         sounds.clear();
+        voiceLimiter.clear();
     }
 
-    // Load defaults from resources and set mix
-    public void loadDefaultSounds() {
-        // Effects
-        addSound("effect_wall", new Effect("/sounds/effects/wall.wav"));
-        addSound("effect_paddle", new Effect("/sounds/effects/paddle.wav"));
-        addSound("effect_brick", new Effect("/sounds/effects/brick_break.wav"));
-        addSound("effect_score", new Effect("/sounds/effects/score.wav"));
-
+    /**
+     * Loads the default sounds in parallel on the asset loader; each sound is registered as
+     * soon as it is decoded. Only the title music holds up the menu, the rest may arrive
+     * while it is shown (a cue for a sound not loaded yet is just skipped).
+     */
+    public void loadDefaultSounds(AssetLoader assets) {
         // Title and jingles
-        addSound("music_title", new Music("/sounds/musics/title.wav", false));
-        addSound("music_gameover", new Music("/sounds/musics/gameover.wav", false));
-        addSound("music_stage_start", new Music("/sounds/musics/stagestart.wav", false));
+        register(assets.submitForMenu("music_title", () -> music("/sounds/musics/title.wav", 0.7f)), SoundId.MUSIC_TITLE);
+        register(assets.submit("music_gameover", () -> music("/sounds/musics/gameover.wav", 0.8f)), SoundId.MUSIC_GAMEOVER);
+        register(assets.submit("music_stage_start", () -> music("/sounds/musics/stagestart.wav", 0.9f)), SoundId.MUSIC_STAGE_START);
+
+        // Effects
+        // Voices per effect: bursts of brick/score hits overlap, wall/paddle rarely do.
+        // Together they exceed MAX_EFFECT_VOICES, so busy frames share the global cap.
+        register(assets.submit("effect_wall", () -> new Effect("/sounds/effects/wall.wav", 2, voiceLimiter)), SoundId.EFFECT_WALL);
+        register(assets.submit("effect_paddle", () -> new Effect("/sounds/effects/paddle.wav", 1, voiceLimiter)), SoundId.EFFECT_PADDLE);
+        register(assets.submit("effect_brick", () -> new Effect("/sounds/effects/brick_break.wav", 3, voiceLimiter)), SoundId.EFFECT_BRICK);
+        register(assets.submit("effect_score", () -> new Effect("/sounds/effects/score.wav", 2, voiceLimiter)), SoundId.EFFECT_SCORE);
 
         // Ambient loop (much quieter than background)
-        Ambient ambient = new Ambient("/sounds/ambient/ambient.mp3");
-        if (ambient != null) ambient.setVolume(ambientVolume);
-        addSound("ambient_bg", ambient);
+        register(assets.submit("ambient_bg", () -> {
+            Ambient ambient = new Ambient("/sounds/ambient/ambient.mp3");
+            ambient.setVolume(ambientVolume);
+            return ambient;
+        }), SoundId.AMBIENT_BG);
 
         // Init alternating background players (two tracks)
-        initBackgroundPlayers("/sounds/background/background1.mp3", "/sounds/background/background2.mp3");
+        assets.submit("background music", () -> {
+            initBackgroundPlayers("/sounds/background/background1.mp3", "/sounds/background/background2.mp3");
+            return null;
+        });
+    }
 
-        // Default mix
-        setVolume("effect_wall", 1.0f);
-        setVolume("effect_paddle", 1.0f);
-        setVolume("effect_brick", 1.0f);
-        setVolume("effect_score", 1.0f);
+    private void register(CompletableFuture<? extends SoundInterface> loaded, SoundId id) {
+        loaded.thenAccept(sound -> {
+            // Effects loaded after setEffectsVolume() still get the current group volume
+            if (id.getGroup() == SoundId.Group.EFFECT) setVolume(sound, effectsVolume);
+            addSound(id, sound);
+        });
+    }
 
-        setBackgroundVolume(bgVolume);
-        setVolume("music_title", 0.7f);
-        setVolume("music_gameover", 0.8f);
-        setVolume("music_stage_start", 0.9f);
+    private static Music music(String path, float volume) {
+        Music music = new Music(path, false);
+        music.setVolume(volume);
+        return music;
     }
 
     /** Stop all sounds and background players. */
     public void stopAll() {
-        for (String name : sounds.keySet()) stopSound(name);
+        for (SoundInterface s : sounds.getAll()) s.stop();
         stopBackgroundAlternating();
     }
 
@@ -111,18 +213,21 @@ public class SoundManager {
         try {
             var u1 = SoundManager.class.getResource(res1);
             var u2 = SoundManager.class.getResource(res2);
-            if (u1 != null) bgPlayer1 = new MediaPlayer(new Media(u1.toExternalForm()));
-            if (u2 != null) bgPlayer2 = new MediaPlayer(new Media(u2.toExternalForm()));
-            if (bgPlayer1 != null && bgPlayer2 != null) {
-                bgPlayer1.setOnEndOfMedia(() -> switchTo(bgPlayer2));
-                bgPlayer2.setOnEndOfMedia(() -> switchTo(bgPlayer1));
-                bgPlayer1.setCycleCount(1);
-                bgPlayer2.setCycleCount(1);
-                bgPlayer1.setVolume(bgVolume);
-                bgPlayer2.setVolume(bgVolume);
+            MediaPlayer p1 = u1 != null ? new MediaPlayer(new Media(u1.toExternalForm())) : null;
+            MediaPlayer p2 = u2 != null ? new MediaPlayer(new Media(u2.toExternalForm())) : null;
+            if (p1 != null && p2 != null) {
+                p1.setOnEndOfMedia(() -> switchTo(p2));
+                p2.setOnEndOfMedia(() -> switchTo(p1));
+                p1.setCycleCount(1);
+                p2.setCycleCount(1);
+                p1.setVolume(effectiveBgVolume());
+                p2.setVolume(effectiveBgVolume());
             }
+            // Published fully configured
+            bgPlayer1 = p1;
+            bgPlayer2 = p2;
         } catch (Exception ex) {
-            System.err.println("Failed to init background players: " + ex.getMessage());
+            Log.warn("Failed to init background players: " + ex.getMessage());
             bgPlayer1 = null; bgPlayer2 = null;
         }
     }
@@ -132,7 +237,7 @@ public class SoundManager {
             if (next == null) return;
             next.stop();
             next.seek(javafx.util.Duration.ZERO);
-            next.setVolume(bgVolume);
+            next.setVolume(effectiveBgVolume());
             next.play();
         } catch (Exception ignored) {}
     }
@@ -145,7 +250,7 @@ public class SoundManager {
                 bgPlayer1.stop();
                 bgPlayer2.stop();
                 bgPlayer1.seek(javafx.util.Duration.ZERO);
-                bgPlayer1.setVolume(bgVolume);
+                bgPlayer1.setVolume(effectiveBgVolume());
                 bgPlayer1.play();
             } catch (Exception ignored) {}
         });
@@ -162,41 +267,53 @@ public class SoundManager {
     /** Set background volume (0.0-1.0). */
     public void setBackgroundVolume(float volume) {
         bgVolume = Math.max(0f, Math.min(1f, volume));
-        Platform.runLater(() -> {
-            try { if (bgPlayer1 != null) bgPlayer1.setVolume(bgVolume); } catch (Exception ignored) {}
-            try { if (bgPlayer2 != null) bgPlayer2.setVolume(bgVolume); } catch (Exception ignored) {}
-        });
+        pushMix();
     }
 
     /** Set ambient loop volume (0.0-1.0). */
     public void setAmbientVolume(float volume) {
         ambientVolume = Math.max(0f, Math.min(1f, volume));
-        setVolume("ambient_bg", ambientVolume);
+        pushMix();
     }
 
     /** Set effects group volume by updating all effect_* sounds. */
     public void setEffectsVolume(float volume) {
         float vol = Math.max(0f, Math.min(1f, volume));
-        for (String name : sounds.keySet()) {
-            if (name.startsWith("effect_")) {
-                setVolume(name, vol);
-            }
+        effectsVolume = vol;
+        List<SoundInterface> effects = sounds.getGroup(SoundId.Group.EFFECT);
+        for (int i = 0; i < effects.size(); i++) {
+            setVolume(effects.get(i), vol);
         }
     }
 
-    /** Briefly reduce background/ambient so effects cut through. */
-    private void duckBackgroundForMillis(long ms) {
-        float priorBg = bgVolume;
-        float priorAmb = ambientVolume;
-        float duckedBg = priorBg * 0.6f;
-        float duckedAmb = priorAmb * 0.7f;
-        setBackgroundVolume(duckedBg);
-        setVolume("ambient_bg", duckedAmb);
-        new java.util.Timer(true).schedule(new java.util.TimerTask() {
-            @Override public void run() {
-                setBackgroundVolume(priorBg);
-                setVolume("ambient_bg", priorAmb);
-            }
-        }, ms);
+    /**
+     * Advances the ducking envelope; call once per frame from the game loop. Volumes are
+     * only pushed to the players when the duck amount actually moved.
+     */
+    public void tick(long nowNanos) {
+        double amount = ducking.amountAt(nowNanos);
+        if (amount == appliedDuck || (Math.abs(amount - appliedDuck) < 0.02 && amount != 0)) return;
+        appliedDuck = amount;
+        pushMix();
+    }
+
+    private double effectiveBgVolume() {
+        return bgVolume * (1.0 - DUCK_BG_DEPTH * appliedDuck);
+    }
+
+    /** Applies base volumes times the current duck in one batch on the FX thread. */
+    private void pushMix() {
+        double bg = effectiveBgVolume();
+        float ambient = (float) (ambientVolume * (1.0 - DUCK_AMBIENT_DEPTH * appliedDuck));
+        Runnable apply = () -> {
+            try { if (bgPlayer1 != null) bgPlayer1.setVolume(bg); } catch (Exception ignored) {}
+            try { if (bgPlayer2 != null) bgPlayer2.setVolume(bg); } catch (Exception ignored) {}
+            setVolume(SoundId.AMBIENT_BG, ambient);
+        };
+        if (Platform.isFxApplicationThread()) {
+            apply.run();
+        } else {
+            Platform.runLater(apply);
+        }
     }
 }
@@ -0,0 +1,98 @@
+package Arkanoid.audio;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Sound catalog indexed by {@link SoundId}: lookups by id are a single array load.
+ * String names still work as aliases (and for custom sounds without an id), and every
+ * sound is filed under its {@link SoundId.Group} when registered, so group volume changes
+ * walk a short list instead of scanning and prefix-matching all names.
+ * Sounds may be registered from asset loader threads while the game plays: writes are
+ * serialized, lookups take no lock.
+ */
+public class SoundRegistry {
+    private final AtomicReferenceArray<SoundInterface> byId = new AtomicReferenceArray<>(SoundId.values().length);
+    private final Map<String, SoundInterface> byName = new ConcurrentHashMap<>();
+    private final Map<String, SoundId.Group> customGroups = new ConcurrentHashMap<>();
+    private final Map<SoundId.Group, List<SoundInterface>> groups = new EnumMap<>(SoundId.Group.class);
+
+    public SoundRegistry() {
+        for (SoundId.Group group : SoundId.Group.values()) {
+            groups.put(group, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    public synchronized void register(SoundId id, SoundInterface sound) {
+        put(id.getAlias(), id.getGroup(), sound);
+        byId.set(id.ordinal(), sound);
+    }
+
+    /** Registers by name; names matching a {@link SoundId} alias fill that id's slot. */
+    public synchronized void register(String name, SoundInterface sound) {
+        SoundId id = SoundId.fromAlias(name);
+        if (id != null) {
+            register(id, sound);
+        } else {
+            SoundId.Group group = SoundId.Group.forName(name);
+            customGroups.put(name, group);
+            put(name, group, sound);
+        }
+    }
+
+    private void put(String name, SoundId.Group group, SoundInterface sound) {
+        SoundInterface previous = byName.put(name, sound);
+        if (previous != null) {
+            for (List<SoundInterface> members : groups.values()) {
+                members.remove(previous);
+            }
+        }
+        groups.get(group).add(sound);
+    }
+
+    /** @return the sound for this id, or null if none is registered. */
+    public SoundInterface get(SoundId id) {
+        return byId.get(id.ordinal());
+    }
+
+    public SoundInterface get(String name) {
+        return byName.get(name);
+    }
+
+    /** @return group of a registered name, or null if the name is unknown. */
+    public SoundId.Group groupOf(String name) {
+        SoundId id = SoundId.fromAlias(name);
+        return id != null ? id.getGroup() : customGroups.get(name);
+    }
+
+    /** @return the sounds in a volume group, in registration order. */
+    public List<SoundInterface> getGroup(SoundId.Group group) {
+        return Collections.unmodifiableList(groups.get(group));
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(byName.keySet());
+    }
+
+    public Collection<SoundInterface> getAll() {
+        return Collections.unmodifiableCollection(byName.values());
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < byId.length(); i++) {
+            byId.set(i, null);
+        }
+        byName.clear();
+        customGroups.clear();
+        for (List<SoundInterface> members : groups.values()) {
+            members.clear();
+        }
+    }
+}
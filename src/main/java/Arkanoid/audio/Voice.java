@@ -0,0 +1,17 @@
+package Arkanoid.audio;
+
+/**
+ * One playback channel of a pooled sound, e.g. a preloaded AudioClip.
+ */
+public interface Voice {
+    /**
+     * Starts playback from the beginning.
+     * @param volume 0.0-1.0
+     * @param pan    -1.0 (left) to 1.0 (right)
+     */
+    void play(double volume, double pan);
+
+    void stop();
+
+    boolean isPlaying();
+}
@@ -0,0 +1,61 @@
+package Arkanoid.audio;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caps the number of effect voices playing at once across all {@link VoicePool}s.
+ * When the cap is reached the oldest playing voice, in any pool, is stopped to make room.
+ */
+public class VoiceLimiter {
+    private final int maxVoices;
+    private final List<VoicePool> pools = new ArrayList<>();
+
+    public VoiceLimiter(int maxVoices) {
+        this.maxVoices = maxVoices;
+    }
+
+    synchronized void register(VoicePool pool) {
+        pools.add(pool);
+    }
+
+    /** Forgets every pool, e.g. when the sound catalog is cleared. */
+    public synchronized void clear() {
+        pools.clear();
+    }
+
+    /**
+     * Steals the globally oldest voices until one more fits under the cap. Caller holds the
+     * lock. Bounded by the excess counted up front, since a voice may still report playing
+     * right after stop() (or be shared by two slots when a clip failed to decode).
+     */
+    void makeRoom() {
+        for (int excess = activeVoices() - maxVoices + 1; excess > 0; excess--) {
+            VoicePool oldestPool = null;
+            long oldest = Long.MAX_VALUE;
+            for (int i = 0; i < pools.size(); i++) {
+                VoicePool pool = pools.get(i);
+                long started = pool.oldestActiveStart();
+                if (started < oldest) {
+                    oldest = started;
+                    oldestPool = pool;
+                }
+            }
+            if (oldestPool == null) return;
+            oldestPool.stopOldest();
+        }
+    }
+
+    /** @return voices currently playing across every pool. */
+    public synchronized int activeVoices() {
+        int active = 0;
+        for (int i = 0; i < pools.size(); i++) {
+            active += pools.get(i).activeVoices();
+        }
+        return active;
+    }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+}
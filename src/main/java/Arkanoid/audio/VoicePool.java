@@ -0,0 +1,83 @@
+package Arkanoid.audio;
+
+/**
+ * Fixed set of voices for one sound so rapid triggers overlap instead of restarting a
+ * single clip. Polyphony is capped by the number of voices: when all are busy the oldest
+ * one is stolen. Hits from the same frame are already merged by {@link SoundEventQueue},
+ * so every trigger here is a separate playback.
+ */
+public class VoicePool {
+    private final Voice[] voices;
+    private final long[] startedAt;
+    private final VoiceLimiter limiter;
+
+    /** @param limiter global voice cap shared with the other pools */
+    public VoicePool(Voice[] voices, VoiceLimiter limiter) {
+        this.voices = voices;
+        this.startedAt = new long[voices.length];
+        this.limiter = limiter;
+        limiter.register(this);
+    }
+
+    /** Plays the sound on a free voice, stealing the oldest one if needed. */
+    public void trigger(long nowNanos, double volume, double pan) {
+        synchronized (limiter) {
+            limiter.makeRoom();
+            int slot = -1;
+            for (int i = 0; i < voices.length; i++) {
+                if (!voices[i].isPlaying()) {
+                    slot = i;
+                    break;
+                }
+            }
+            if (slot < 0) {
+                slot = oldestActive();
+                voices[slot].stop();
+            }
+            voices[slot].play(volume, pan);
+            startedAt[slot] = nowNanos;
+        }
+    }
+
+    /** Stops every voice of this sound. */
+    public void stopAll() {
+        synchronized (limiter) {
+            for (Voice voice : voices) {
+                voice.stop();
+            }
+        }
+    }
+
+    int activeVoices() {
+        int active = 0;
+        for (Voice voice : voices) {
+            if (voice.isPlaying()) active++;
+        }
+        return active;
+    }
+
+    /** @return start time of the oldest playing voice, or Long.MAX_VALUE if none plays. */
+    long oldestActiveStart() {
+        int slot = oldestActive();
+        return slot >= 0 && voices[slot].isPlaying() ? startedAt[slot] : Long.MAX_VALUE;
+    }
+
+    void stopOldest() {
+        int slot = oldestActive();
+        if (slot >= 0) voices[slot].stop();
+    }
+
+    private int oldestActive() {
+        int slot = -1;
+        for (int i = 0; i < voices.length; i++) {
+            if (voices[i].isPlaying() && (slot < 0 || startedAt[i] < startedAt[slot])) {
+                slot = i;
+            }
+        }
+        return slot;
+    }
+
+    public int getVoiceCount() {
+        return voices.length;
+    }
+}
@@ -0,0 +1,528 @@
+package Arkanoid.engine;
+
+import Arkanoid.audio.SoundId;
+import Arkanoid.jfr.BrickDestroyedEvent;
+import Arkanoid.level.Level;
+import Arkanoid.level.LevelManager;
+import Arkanoid.manager.BrickGrid;
+import Arkanoid.manager.CollisionManager;
+import Arkanoid.manager.ScoreManager;
+import Arkanoid.model.*;
+import Arkanoid.util.ActiveList;
+import Arkanoid.util.Constants;
+import Arkanoid.util.Log;
+
+import java.util.*;
+
+/**
+ * Pure-Java simulation core: paddle, balls, bricks, power-ups, collisions and scoring.
+ * Has no JavaFX toolkit or audio dependency, so it can be stepped headless (tests,
+ * soak runs, benchmarks). Sound cues go through a {@link SoundSink}; music and other
+ * front-end concerns stay in {@link Arkanoid.manager.GameManager}.
+ */
+public class GameEngine {
+    private GameState currentState;
+    private Paddle paddle;
+    private List<Ball> balls;
+    private final BrickStore bricks;
+    private List<PowerUps> powerUps;
+    private final BrickGrid brickGrid;
+    private final CollisionManager collisionManager;
+    private final ScoreManager scoreManager;
+    private final Random random;
+    private final SoundSink soundSink;
+
+    // Level Management
+    private final LevelManager levelManager;
+    private Level currentLevel;
+
+    // PowerUp timing: expiry in simulation milliseconds, so pausing freezes timers
+    private final Map<PowerUpType, Double> activePowerUps;
+    private double simTimeMillis;
+    private Runnable pendingLevelEntry; // level switch waiting for its level to finish loading
+
+    // Reused callback for the swept collision resolver
+    private final CollisionManager.BrickHitHandler brickHitHandler = this::onBrickHit;
+
+    public GameEngine(LevelManager levelManager, SoundSink soundSink) {
+        this(levelManager, soundSink, new Random());
+    }
+
+    /**
+     * @param levelManager level catalog; may be empty (no level is loaded until the game
+     *                     starts, then a generated grid is used)
+     * @param soundSink    receives sound cues; use {@link SoundSink#NONE} headless
+     * @param random       source for launch angles, drops and power-up types (seed it for replays)
+     */
+    public GameEngine(LevelManager levelManager, SoundSink soundSink, Random random) {
+        this.currentState = GameState.MENU;
+        this.levelManager = levelManager;
+        this.soundSink = soundSink;
+        this.random = random;
+        this.collisionManager = new CollisionManager(soundSink);
+        this.brickGrid = new BrickGrid();
+        this.scoreManager = new ScoreManager();
+        this.activePowerUps = new EnumMap<>(PowerUpType.class);
+        this.bricks = new BrickStore();
+
+        initializeEntities();
+        // The catalog may still be loading; the first level is loaded when the game starts
+        if (levelManager.getTotalLevels() > 0 && levelManager.isCurrentLevelReady()) {
+            loadCurrentLevel();
+        }
+    }
+
+    private void initializeGame() {
+        initializeEntities();
+        loadCurrentLevel();
+    }
+
+    private void initializeEntities() {
+        paddle = new Paddle();
+        balls = new ArrayList<>();
+        balls.add(new Ball(paddle));
+        bricks.clear();
+        powerUps = new ArrayList<>();
+    }
+
+    /**
+     * Enters the current level now if it is built; otherwise shows LOADING and enters it
+     * from {@link #update(double)} once the loader finished it, so this thread never waits
+     * on a prefetch.
+     */
+    private void whenLevelReady(Runnable enterLevel) {
+        if (levelManager.isCurrentLevelReady()) {
+            pendingLevelEntry = null;
+            enterLevel.run();
+        } else {
+            pendingLevelEntry = enterLevel;
+            currentState = GameState.LOADING;
+        }
+    }
+
+    private void loadCurrentLevel() {
+        currentLevel = levelManager.getCurrentLevel();
+
+        if (currentLevel != null) {
+            Log.info("Loading level: " + currentLevel.getLevelName() +
+                    " (Level " + currentLevel.getLevelNumber() + ")");
+
+            bricks.rebuild(currentLevel.getBricks());
+            brickGrid.rebuild(bricks.asList());
+
+            Log.info("Loaded " + bricks.size() + " bricks from level data");
+
+            try {
+                double levelBallSpeed = currentLevel.getBallSpeed();
+                int levelLives = currentLevel.getInitialLives();
+
+                if (levelLives > 0) {
+                    scoreManager.setLives(levelLives);
+                }
+
+                for (Ball b : balls) {
+                    b.setBaseSpeed(levelBallSpeed);
+                }
+            } catch (Exception ignored) {
+            }
+
+            // Debug
+            for (int i = 0; Log.isDebugEnabled() && i < Math.min(3, bricks.size()); i++) {
+                Brick b = bricks.getBrick(i);
+                Log.debug("   Brick " + i + ": type=" + b.getType() +
+                        ", pos=(" + b.getX() + "," + b.getY() + ")");
+            }
+        } else {
+            Log.warn("Current level is NULL! Using legacy level generation");
+            createLegacyLevel();
+        }
+    }
+
+    private void createLegacyLevel() {
+        bricks.clear();
+        int level = scoreManager.getLevel();
+
+        for (int row = 0; row < Constants.BRICK_ROWS; row++) {
+            for (int col = 0; col < Constants.BRICK_COLS; col++) {
+                double x = Constants.BRICK_OFFSET_X + col * (Constants.BRICK_WIDTH + Constants.BRICK_PADDING);
+                double y = Constants.BRICK_OFFSET_Y + row * (Constants.BRICK_HEIGHT + Constants.BRICK_PADDING);
+
+                BrickType type = determineBrickType(row, level);
+                Brick brick = new Brick(
+                        x, y,
+                        Constants.BRICK_WIDTH,
+                        Constants.BRICK_HEIGHT,
+                        type,
+                        Constants.BRICK_COLORS[row % Constants.BRICK_COLORS.length]
+                );
+                bricks.add(brick);
+            }
+        }
+        brickGrid.rebuild(bricks.asList());
+    }
+
+    private BrickType determineBrickType(int row, int level) {
+        int chance = random.nextInt(100);
+        if (level > 3 && row < 2 && chance < 20)
+            return BrickType.UNBREAKABLE;
+        else if (level > 1 && chance < 30)
+            return BrickType.HARD;
+        return BrickType.NORMAL;
+    }
+
+    /**
+     * Advances the simulation by one step. No-op unless the state is PLAYING.
+     * @param deltaTime step length in seconds
+     */
+    public void update(double deltaTime) {
+        if (pendingLevelEntry != null) {
+            if (levelManager.isCurrentLevelReady()) {
+                Runnable enterLevel = pendingLevelEntry;
+                pendingLevelEntry = null;
+                enterLevel.run();
+            }
+            return;
+        }
+        if (currentState != GameState.PLAYING) return;
+
+        simTimeMillis += deltaTime * 1000.0;
+        savePreviousPositions();
+        paddle.update(deltaTime);
+
+        // Static bricks have no per-frame work; only tick the level's active entities
+        if (currentLevel != null) {
+            ActiveList<Tickable> active = currentLevel.getActiveEntities();
+            for (int i = 0; i < active.size(); i++) {
+                Tickable entity = active.get(i);
+                entity.update(deltaTime);
+                if (entity instanceof Brick) {
+                    // Keep the broadphase in sync with bricks that left their cell
+                    brickGrid.update((Brick) entity);
+                }
+            }
+        }
+
+        Iterator<Ball> ballIterator = balls.iterator();
+        while (ballIterator.hasNext()) {
+            Ball ball = ballIterator.next();
+            if (ball.isStuck()) {
+                ball.update(deltaTime);
+            } else {
+                // Continuous collision: resolves paddle/brick contacts along the motion segment
+                collisionManager.moveBall(ball, deltaTime, paddle, brickGrid, brickHitHandler);
+            }
+
+            if (ball.isOutOfBounds()) {
+                ballIterator.remove();
+                if (balls.isEmpty()) {
+                    scoreManager.loseLife();
+                    if (scoreManager.isGameOver()) {
+                        currentState = GameState.GAME_OVER;
+                    } else {
+                        resetBall();
+                    }
+                }
+            } else {
+                checkCollisions(ball);
+            }
+            collisionManager.recordBricksTested();
+        }
+
+        Iterator<PowerUps> powerUpIterator = powerUps.iterator();
+        while (powerUpIterator.hasNext()) {
+            PowerUps powerUp = powerUpIterator.next();
+            powerUp.update(deltaTime);
+
+            if (powerUp.isOutOfBounds()) {
+                powerUpIterator.remove();
+                continue;
+            }
+
+            if (!powerUp.isCollected() && paddle.intersects(powerUp)) {
+                powerUp.collect();
+                applyPowerUp(powerUp.getType());
+                scoreManager.addScore(Constants.SCORE_POWERUP);
+                powerUpIterator.remove();
+            }
+        }
+
+        updateActivePowerUps();
+
+        if (isLevelComplete()) {
+            currentState = GameState.LEVEL_COMPLETE;
+        }
+    }
+
+    /** Snapshots entity positions before a step so the renderer can interpolate. */
+    private void savePreviousPositions() {
+        paddle.savePreviousPosition();
+        for (int i = 0; i < balls.size(); i++) {
+            balls.get(i).savePreviousPosition();
+        }
+        for (int i = 0; i < powerUps.size(); i++) {
+            powerUps.get(i).savePreviousPosition();
+        }
+    }
+
+    /**
+     * Overlap-based fallback after the swept move, e.g. when a moving brick slid into the ball.
+     */
+    private void checkCollisions(Ball ball) {
+        collisionManager.checkBallPaddleCollision(ball, paddle);
+
+        Brick hitBrick = collisionManager.checkBallBrickCollision(ball, brickGrid);
+        if (hitBrick != null) {
+            onBrickHit(hitBrick);
+        }
+    }
+
+    private void onBrickHit(Brick hitBrick) {
+        boolean destroyed = hitBrick.hit();
+        if (destroyed) {
+            scoreManager.addScore(hitBrick.getScore());
+            soundSink.playAt(SoundId.EFFECT_BRICK, hitBrick.getCenterX());
+            soundSink.playAt(SoundId.EFFECT_SCORE, hitBrick.getCenterX());
+
+            if (random.nextInt(100) < 15) {
+                spawnPowerUp(hitBrick.getCenterX(), hitBrick.getCenterY());
+            }
+
+            // Remove destroyed brick so it no longer renders or collides (O(1) swap-remove)
+            bricks.remove(hitBrick);
+            brickGrid.remove(hitBrick);
+            if (hitBrick instanceof Tickable && currentLevel != null) {
+                currentLevel.getActiveEntities().remove((Tickable) hitBrick);
+            }
+
+            BrickDestroyedEvent event = new BrickDestroyedEvent();
+            if (event.shouldCommit()) {
+                event.brickType = hitBrick.getType().name();
+                event.score = hitBrick.getScore();
+                event.bricksLeft = currentLevel != null ? currentLevel.getRemainingBricks() : bricks.size();
+                event.commit();
+            }
+        }
+    }
+
+    private void spawnPowerUp(double x, double y) {
+        PowerUpType[] types = PowerUpType.values();
+        PowerUpType type = types[random.nextInt(types.length)];
+        powerUps.add(new PowerUps(x, y, type));
+    }
+
+    private void applyPowerUp(PowerUpType type) {
+        double now = simTimeMillis;
+
+        switch (type) {
+            case EXPAND_PADDLE:
+                paddle.expand();
+                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
+                break;
+
+            case SHRINK_PADDLE:
+                paddle.shrink();
+                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
+                break;
+
+            case SPEED_UP_BALL:
+                balls.forEach(Ball::increaseSpeed);
+                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
+                break;
+
+            case SPEED_DOWN_BALL:
+                balls.forEach(Ball::decreaseSpeed);
+                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
+                break;
+
+            case EXTRA_LIFE:
+                scoreManager.addLife();
+                break;
+
+            case MULTI_BALL:
+                if (balls.size() < 5) {
+                    Ball baseBall = balls.get(0);
+                    Ball newBall = new Ball(paddle);
+                    newBall.setX(baseBall.getX());
+                    newBall.setY(baseBall.getY());
+                    newBall.setVelocityX(baseBall.getVelocityX() * (random.nextBoolean() ? 1 : -1));
+                    newBall.setVelocityY(baseBall.getVelocityY());
+                    newBall.launch(randomLaunchAngle());
+                    newBall.savePreviousPosition();
+                    balls.add(newBall);
+                }
+                break;
+        }
+    }
+
+    private void updateActivePowerUps() {
+        if (activePowerUps.isEmpty()) return;
+
+        double now = simTimeMillis;
+        Iterator<Map.Entry<PowerUpType, Double>> iterator = activePowerUps.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<PowerUpType, Double> entry = iterator.next();
+            if (now > entry.getValue()) {
+                deactivatePowerUp(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void deactivatePowerUp(PowerUpType type) {
+        switch (type) {
+            case EXPAND_PADDLE:
+            case SHRINK_PADDLE:
+                paddle.resetSize();
+                break;
+
+            case SPEED_UP_BALL:
+            case SPEED_DOWN_BALL:
+                balls.forEach(Ball::resetSpeed);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private boolean isLevelComplete() {
+        if (currentLevel != null) {
+            return currentLevel.isCompleted();
+        }
+
+        for (int i = 0; i < bricks.size(); i++) {
+            if (!bricks.hasFlag(i, BrickStore.FLAG_DESTROYED) && bricks.getType(i) != BrickType.UNBREAKABLE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Starts a new run from level 1. */
+    public void startGame() {
+        scoreManager.reset();
+        levelManager.restartGame();
+        whenLevelReady(() -> {
+            currentState = GameState.PLAYING;
+            initializeGame();
+        });
+    }
+
+    /** Toggles between PLAYING and PAUSED. */
+    public void pauseGame() {
+        if (currentState == GameState.PLAYING) currentState = GameState.PAUSED;
+        else if (currentState == GameState.PAUSED) currentState = GameState.PLAYING;
+    }
+
+    /**
+     * Advances to the next level, or ends the run when none is left.
+     * @return true if a next level was loaded
+     */
+    public boolean nextLevel() {
+        boolean hasNextLevel = levelManager.nextLevel();
+
+        if (hasNextLevel) {
+            scoreManager.nextLevel();
+            whenLevelReady(() -> {
+                resetLevel();
+                currentState = GameState.PLAYING;
+            });
+        } else {
+            currentState = GameState.GAME_OVER;
+            Log.info("Congratulations! You completed all levels!");
+        }
+        return hasNextLevel;
+    }
+
+    private void resetLevel() {
+        if (levelManager != null) {
+            currentLevel = levelManager.getCurrentLevel();
+        }
+
+        paddle.reset();
+        paddle.setMovingLeft(false);
+        paddle.setMovingRight(false);
+
+        balls.clear();
+        Ball newBall = new Ball(paddle);
+        if (currentLevel != null) {
+            newBall.setBaseSpeed(currentLevel.getBallSpeed());
+        }
+        balls.add(newBall);
+
+        powerUps.clear();
+        activePowerUps.clear();
+
+        if (currentLevel != null) {
+            currentLevel.reset();
+            bricks.rebuild(currentLevel.getBricks());
+            brickGrid.rebuild(bricks.asList());
+            Log.info("Reset level: " + currentLevel.getLevelName());
+            scoreManager.setLives(currentLevel.getInitialLives());
+        } else {
+            loadCurrentLevel();
+        }
+    }
+
+    private void resetBall() {
+        balls.clear();
+        balls.add(new Ball(paddle));
+    }
+
+    /** Launches every ball still stuck to the paddle. */
+    public void launchBall() {
+        for (Ball ball : balls) {
+            if (ball.isStuck()) ball.launch(randomLaunchAngle());
+        }
+    }
+
+    private double randomLaunchAngle() {
+        // Random upward angle between -60 and -120 degrees
+        return -60 - random.nextDouble() * 60;
+    }
+
+    /**
+     * Selects and starts the given level.
+     * @return false if the level does not exist or is locked
+     */
+    public boolean selectLevel(int levelNumber) {
+        if (!levelManager.selectLevel(levelNumber)) {
+            return false;
+        }
+        clearEntities();
+        whenLevelReady(() -> {
+            resetLevel();
+            currentState = GameState.PLAYING;
+        });
+        return true;
+    }
+
+    /** Clears balls, bricks and power-ups; used when leaving gameplay. */
+    public void clearEntities() {
+        pendingLevelEntry = null;
+        balls.clear();
+        bricks.clear();
+        brickGrid.clear();
+        powerUps.clear();
+        activePowerUps.clear();
+    }
+
+    // Getters
+    public GameState getCurrentState() { return currentState; }
+    public void setCurrentState(GameState currentState) { this.currentState = currentState; }
+    public Paddle getPaddle() { return paddle; }
+    public List<Ball> getBalls() { return balls; }
+    /** @return read-only view of the live bricks. */
+    public List<Brick> getBricks() { return bricks.asList(); }
+    /** @return packed brick storage, for loops that only need the primitive fields. */
+    public BrickStore getBrickStore() { return bricks; }
+    public List<PowerUps> getPowerUps() { return powerUps; }
+    public ScoreManager getScoreManager() { return scoreManager; }
+    public LevelManager getLevelManager() { return levelManager; }
+    public Level getCurrentLevel() { return currentLevel; }
+    public CollisionManager getCollisionManager() { return collisionManager; }
+    public BrickGrid getBrickGrid() { return brickGrid; }
+    /** @return simulated time in milliseconds spent in PLAYING since construction. */
+    public double getSimTimeMillis() { return simTimeMillis; }
+}
@@ -0,0 +1,29 @@
+package Arkanoid.engine;
+
+import Arkanoid.audio.SoundId;
+import Arkanoid.util.Constants;
+
+/**
+ * Receives sound cues emitted by the simulation. The engine never touches audio directly,
+ * so it can run headless; the JavaFX front end queues cues and plays them once per frame.
+ */
+public interface SoundSink {
+    /** Sink that drops every cue (headless runs, tests, benchmarks). */
+    SoundSink NONE = (id, volume, pan) -> { };
+
+    /**
+     * @param volume relative loudness hint, 0.0-1.0
+     * @param pan    stereo position hint, -1.0 (left) to 1.0 (right)
+     */
+    void play(SoundId id, float volume, float pan);
+
+    /** Plays the cue at full volume, panned to where it happened on screen. */
+    default void playAt(SoundId id, double x) {
+        play(id, 1f, panFor(x));
+    }
+
+    /** @return stereo pan for a horizontal playfield position. */
+    static float panFor(double x) {
+        return (float) Math.max(-1.0, Math.min(1.0, x / Constants.WINDOW_WIDTH * 2.0 - 1.0));
+    }
+}
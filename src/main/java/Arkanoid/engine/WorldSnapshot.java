@@ -0,0 +1,231 @@
+package Arkanoid.engine;
+
+import Arkanoid.level.Level;
+import Arkanoid.manager.ScoreManager;
+import Arkanoid.model.*;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything the renderer needs from one simulation step, copied into primitive arrays.
+ * Instances are pooled (see {@link Arkanoid.util.TripleBuffer}) and overwritten with
+ * {@link #capture}, so the simulation thread never shares live entities with the FX thread.
+ * Positions are stored for the previous and the current step for render interpolation.
+ */
+public final class WorldSnapshot {
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+    private static final BrickType[] BRICK_TYPES = BrickType.values();
+
+    private GameState state = GameState.MENU;
+    private long publishNanos;
+    private double stepSeconds;
+
+    // HUD
+    private int score;
+    private int highScore;
+    private int lives;
+    private int levelNumber;
+    private String levelName;
+    private int totalLevels;
+    private String backgroundPath;
+
+    // Paddle: previous/current position and size
+    private double paddlePrevX, paddlePrevY, paddleX, paddleY, paddleWidth, paddleHeight;
+
+    // Balls
+    private int ballCount;
+    private double[] ballPrevX = new double[8], ballPrevY = new double[8];
+    private double[] ballX = new double[8], ballY = new double[8], ballRadius = new double[8];
+
+    // Power-ups (collected ones are skipped)
+    private int powerUpCount;
+    private double[] powerUpPrevX = new double[8], powerUpPrevY = new double[8];
+    private double[] powerUpX = new double[8], powerUpY = new double[8];
+    private double[] powerUpWidth = new double[8], powerUpHeight = new double[8];
+    private byte[] powerUpType = new byte[8];
+
+    // Bricks, mirrored from the BrickStore columns
+    private int brickCount;
+    private double[] brickX = new double[64], brickY = new double[64];
+    private double[] brickWidth = new double[64], brickHeight = new double[64];
+    private byte[] brickType = new byte[64];
+    private byte[] brickFlags = new byte[64];
+    private Color[] brickColor = new Color[64];
+    private long brickLayoutVersion;
+    private long brickDirtySeq;
+    private final double[] brickDirtyRing = new double[BrickStore.DIRTY_RING_SIZE * 4];
+
+    /**
+     * Overwrites this snapshot with the engine's current state.
+     * Must run on the thread that owns the engine.
+     * @param stepSeconds simulation step, used to turn elapsed time into an interpolation alpha
+     */
+    public void capture(GameEngine engine, double stepSeconds) {
+        this.state = engine.getCurrentState();
+        this.stepSeconds = stepSeconds;
+
+        ScoreManager scoreManager = engine.getScoreManager();
+        score = scoreManager.getScore();
+        highScore = scoreManager.getHighScore();
+        lives = scoreManager.getLives();
+        Level level = engine.getCurrentLevel();
+        levelNumber = level != null ? level.getLevelNumber() : 0;
+        levelName = level != null ? level.getLevelName() : null;
+        backgroundPath = level != null ? level.getBackgroundImage() : null;
+        totalLevels = engine.getLevelManager().getTotalLevels();
+
+        Paddle paddle = engine.getPaddle();
+        paddlePrevX = paddle.getRenderX(0);
+        paddlePrevY = paddle.getRenderY(0);
+        paddleX = paddle.getX();
+        paddleY = paddle.getY();
+        paddleWidth = paddle.getWidth();
+        paddleHeight = paddle.getHeight();
+
+        captureBalls(engine.getBalls());
+        capturePowerUps(engine.getPowerUps());
+        captureBricks(engine.getBrickStore());
+
+        // Stamp last so the consumer measures interpolation from the moment data is complete
+        publishNanos = System.nanoTime();
+    }
+
+    private void captureBalls(List<Ball> balls) {
+        int n = balls.size();
+        if (n > ballX.length) {
+            int cap = Math.max(n, ballX.length * 2);
+            ballPrevX = Arrays.copyOf(ballPrevX, cap);
+            ballPrevY = Arrays.copyOf(ballPrevY, cap);
+            ballX = Arrays.copyOf(ballX, cap);
+            ballY = Arrays.copyOf(ballY, cap);
+            ballRadius = Arrays.copyOf(ballRadius, cap);
+        }
+        for (int i = 0; i < n; i++) {
+            Ball ball = balls.get(i);
+            ballPrevX[i] = ball.getRenderX(0);
+            ballPrevY[i] = ball.getRenderY(0);
+            ballX[i] = ball.getX();
+            ballY[i] = ball.getY();
+            ballRadius[i] = ball.getRadius();
+        }
+        ballCount = n;
+    }
+
+    private void capturePowerUps(List<PowerUps> powerUps) {
+        int n = powerUps.size();
+        if (n > powerUpX.length) {
+            int cap = Math.max(n, powerUpX.length * 2);
+            powerUpPrevX = Arrays.copyOf(powerUpPrevX, cap);
+            powerUpPrevY = Arrays.copyOf(powerUpPrevY, cap);
+            powerUpX = Arrays.copyOf(powerUpX, cap);
+            powerUpY = Arrays.copyOf(powerUpY, cap);
+            powerUpWidth = Arrays.copyOf(powerUpWidth, cap);
+            powerUpHeight = Arrays.copyOf(powerUpHeight, cap);
+            powerUpType = Arrays.copyOf(powerUpType, cap);
+        }
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            PowerUps powerUp = powerUps.get(i);
+            if (powerUp.isCollected()) continue;
+            powerUpPrevX[count] = powerUp.getRenderX(0);
+            powerUpPrevY[count] = powerUp.getRenderY(0);
+            powerUpX[count] = powerUp.getX();
+            powerUpY[count] = powerUp.getY();
+            powerUpWidth[count] = powerUp.getWidth();
+            powerUpHeight[count] = powerUp.getHeight();
+            powerUpType[count] = (byte) powerUp.getType().ordinal();
+            count++;
+        }
+        powerUpCount = count;
+    }
+
+    private void captureBricks(BrickStore bricks) {
+        int n = bricks.size();
+        if (n > brickX.length) {
+            int cap = Math.max(n, brickX.length * 2);
+            brickX = Arrays.copyOf(brickX, cap);
+            brickY = Arrays.copyOf(brickY, cap);
+            brickWidth = Arrays.copyOf(brickWidth, cap);
+            brickHeight = Arrays.copyOf(brickHeight, cap);
+            brickType = Arrays.copyOf(brickType, cap);
+            brickFlags = Arrays.copyOf(brickFlags, cap);
+            brickColor = Arrays.copyOf(brickColor, cap);
+        }
+        for (int i = 0; i < n; i++) {
+            brickX[i] = bricks.getX(i);
+            brickY[i] = bricks.getY(i);
+            brickWidth[i] = bricks.getWidth(i);
+            brickHeight[i] = bricks.getHeight(i);
+            brickType[i] = (byte) bricks.getTypeOrdinal(i);
+            brickFlags[i] = bricks.getFlags(i);
+            brickColor[i] = bricks.getColor(i);
+        }
+        // Drop color references beyond the live count so old levels can be collected
+        for (int i = n; i < brickCount; i++) {
+            brickColor[i] = null;
+        }
+        brickCount = n;
+        brickLayoutVersion = bricks.getLayoutVersion();
+        brickDirtySeq = bricks.getDirtySeq();
+        bricks.copyDirtyRing(brickDirtyRing);
+    }
+
+    /**
+     * @return interpolation factor for rendering at the given time: how far the simulation
+     *         has moved on since this snapshot was published, clamped to 0..1
+     */
+    public double alphaAt(long nowNanos) {
+        if (stepSeconds <= 0) return 1.0;
+        double alpha = (nowNanos - publishNanos) / (stepSeconds * 1_000_000_000.0);
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    private static double lerp(double from, double to, double alpha) {
+        return from + (to - from) * alpha;
+    }
+
+    // Getters
+    public GameState getState() { return state; }
+    public int getScore() { return score; }
+    public int getHighScore() { return highScore; }
+    public int getLives() { return lives; }
+    public int getLevelNumber() { return levelNumber; }
+    /** @return level name, or null when running without a level (legacy layout). */
+    public String getLevelName() { return levelName; }
+    public int getTotalLevels() { return totalLevels; }
+    public String getBackgroundPath() { return backgroundPath; }
+
+    public double getPaddleRenderX(double alpha) { return lerp(paddlePrevX, paddleX, alpha); }
+    public double getPaddleRenderY(double alpha) { return lerp(paddlePrevY, paddleY, alpha); }
+    public double getPaddleWidth() { return paddleWidth; }
+    public double getPaddleHeight() { return paddleHeight; }
+
+    public int getBallCount() { return ballCount; }
+    public double getBallRenderX(int i, double alpha) { return lerp(ballPrevX[i], ballX[i], alpha); }
+    public double getBallRenderY(int i, double alpha) { return lerp(ballPrevY[i], ballY[i], alpha); }
+    public double getBallRadius(int i) { return ballRadius[i]; }
+
+    public int getPowerUpCount() { return powerUpCount; }
+    public double getPowerUpRenderX(int i, double alpha) { return lerp(powerUpPrevX[i], powerUpX[i], alpha); }
+    public double getPowerUpRenderY(int i, double alpha) { return lerp(powerUpPrevY[i], powerUpY[i], alpha); }
+    public double getPowerUpWidth(int i) { return powerUpWidth[i]; }
+    public double getPowerUpHeight(int i) { return powerUpHeight[i]; }
+    public PowerUpType getPowerUpType(int i) { return POWER_UP_TYPES[powerUpType[i]]; }
+
+    public int getBrickCount() { return brickCount; }
+    public double getBrickX(int i) { return brickX[i]; }
+    public double getBrickY(int i) { return brickY[i]; }
+    public double getBrickWidth(int i) { return brickWidth[i]; }
+    public double getBrickHeight(int i) { return brickHeight[i]; }
+    public BrickType getBrickType(int i) { return BRICK_TYPES[brickType[i]]; }
+    public boolean hasBrickFlag(int i, byte flag) { return (brickFlags[i] & flag) != 0; }
+    public Color getBrickColor(int i) { return brickColor[i]; }
+    /** @see BrickStore#getLayoutVersion() */
+    public long getBrickLayoutVersion() { return brickLayoutVersion; }
+    /** @see BrickStore#getDirtySeq() */
+    public long getBrickDirtySeq() { return brickDirtySeq; }
+    /** @return copy of the store's dirty ring at capture time, see {@link BrickStore#copyDirtyRing}. */
+    public double[] getBrickDirtyRing() { return brickDirtyRing; }
+}
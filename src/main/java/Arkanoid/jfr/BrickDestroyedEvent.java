@@ -0,0 +1,25 @@
+package Arkanoid.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A brick broke; instant event, so bursts can be lined up with frame spikes.
+ */
+@Name("arkanoid.BrickDestroyed")
+@Label("Brick Destroyed")
+@Category({"Arkanoid", "Simulation"})
+@StackTrace(false)
+public class BrickDestroyedEvent extends Event {
+    @Label("Brick Type")
+    public String brickType;
+
+    @Label("Score Awarded")
+    public int score;
+
+    @Label("Bricks Left")
+    public int bricksLeft;
+}
@@ -0,0 +1,25 @@
+package Arkanoid.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Swept collision resolution of one ball for one simulation step.
+ */
+@Name("arkanoid.CollisionPass")
+@Label("Collision Pass")
+@Category({"Arkanoid", "Simulation"})
+@Description("Swept ball movement against paddle and bricks for one step")
+@StackTrace(false)
+public class CollisionPassEvent extends Event {
+    @Label("Bricks Tested")
+    @Description("Broadphase candidates run through the narrowphase")
+    public int bricksTested;
+
+    @Label("Contacts")
+    public int contacts;
+}
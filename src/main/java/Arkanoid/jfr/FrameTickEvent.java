@@ -0,0 +1,34 @@
+package Arkanoid.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One AnimationTimer pulse: the simulation steps run on the FX thread (if any) plus the
+ * render. Durations longer than a vsync interval are the stutters to look at in JMC.
+ * Like every event in this package it costs next to nothing unless a recording enables
+ * it, e.g. {@code -XX:StartFlightRecording:filename=arkanoid.jfr}.
+ */
+@Name("arkanoid.FrameTick")
+@Label("Frame Tick")
+@Category({"Arkanoid", "Game Loop"})
+@Description("One frame of the JavaFX game loop")
+@StackTrace(false)
+public class FrameTickEvent extends Event {
+    @Label("Game State")
+    public String state;
+
+    @Label("Simulation Steps")
+    @Description("Fixed steps run on the FX thread this frame; 0 when the simulation has its own thread")
+    public int simulationSteps;
+
+    @Label("Frame Interval")
+    @Description("Time since the previous pulse")
+    @Timespan(Timespan.NANOSECONDS)
+    public long frameInterval;
+}
@@ -0,0 +1,26 @@
+package Arkanoid.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Decoding one image resource.
+ */
+@Name("arkanoid.ImageLoad")
+@Label("Image Load")
+@Category({"Arkanoid", "Assets"})
+public class ImageLoadEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Success")
+    public boolean success;
+}
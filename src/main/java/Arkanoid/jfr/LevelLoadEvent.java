@@ -0,0 +1,26 @@
+package Arkanoid.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reading and parsing one level JSON file.
+ */
+@Name("arkanoid.LevelLoad")
+@Label("Level Load")
+@Category({"Arkanoid", "Assets"})
+public class LevelLoadEvent extends Event {
+    @Label("Level Number")
+    public int levelNumber;
+
+    @Label("Source")
+    public String source;
+
+    @Label("Bricks")
+    public int brickCount;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,24 @@
+package Arkanoid.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One SoundManager.playSound call, including ducking; long ones point at audio stalls.
+ */
+@Name("arkanoid.SoundPlay")
+@Label("Sound Play")
+@Category({"Arkanoid", "Audio"})
+@StackTrace(false)
+public class SoundPlayEvent extends Event {
+    @Label("Sound")
+    public String sound;
+
+    @Label("Found")
+    @Description("False when the name is not in the catalog")
+    public boolean found;
+}
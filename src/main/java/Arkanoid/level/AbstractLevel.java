@@ -2,24 +2,34 @@ package Arkanoid.level;
 
 import Arkanoid.model.Brick;
 import Arkanoid.model.BrickType;
+import Arkanoid.model.Tickable;
+import Arkanoid.util.ActiveList;
+import Arkanoid.util.Constants;
+import Arkanoid.util.Log;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Abstract base for all level implementations.
- * Stores common state (number, name, brick lists) and provides reset/score helpers.
+ * Stores common state (number, name, brick lists, entities that need ticking)
+ * and provides reset/score helpers.
+ * The remaining-brick count is kept live through brick destroy callbacks, so completion
+ * checks do not rescan the layout every frame.
  */
-public abstract class AbstractLevel implements LevelInterface {
+public abstract class AbstractLevel implements LevelInterface, Brick.DestroyListener {
     protected int levelNumber;
     protected String levelName;
     protected List<Brick> bricks;
     protected List<Brick> initialBricks; // Backup for reset
+    protected final ActiveList<Tickable> activeEntities; // Only these get per-frame updates
+    private int remainingBreakable; // Intact non-UNBREAKABLE bricks, see trackBricks()
 
     public AbstractLevel(int levelNumber, String levelName) {
         this.levelNumber = levelNumber;
         this.levelName = levelName;
         this.bricks = new ArrayList<>();
         this.initialBricks = new ArrayList<>();
+        this.activeEntities = new ActiveList<>();
     }
 
     @Override
@@ -30,6 +40,14 @@ public abstract class AbstractLevel implements LevelInterface {
         return bricks;
     }
 
+    /**
+     * @return entities of this level with per-frame work (e.g. moving bricks);
+     *         static bricks are never registered here
+     */
+    public ActiveList<Tickable> getActiveEntities() {
+        return activeEntities;
+    }
+
     @Override
     public int getLevelNumber() {
         return levelNumber;
@@ -45,17 +63,39 @@ public abstract class AbstractLevel implements LevelInterface {
         return getRemainingBricks() == 0;
     }
 
+    @Override
+    public void onBrickDestroyed(Brick brick) {
+        if (brick.getType() != BrickType.UNBREAKABLE) {
+            remainingBreakable--;
+        }
+    }
+
     @Override
     public void reset() {
         bricks.clear();
+        activeEntities.clear(); // copies below are static bricks
     // Deep copy from initialBricks
         for (Brick brick : initialBricks) {
             bricks.add(copyBrick(brick));
         }
+        trackBricks();
     }
 
     @Override
     public int getRemainingBricks() {
+        if (Constants.DEBUG_VERIFY_COUNTERS) {
+            int scanned = scanRemainingBricks();
+            if (scanned != remainingBreakable) {
+                Log.warn("⚠️ Remaining brick counter drifted in " + levelName +
+                        ": counter=" + remainingBreakable + ", scan=" + scanned);
+                remainingBreakable = scanned;
+            }
+        }
+        return remainingBreakable;
+    }
+
+    /** Full O(n) recount; only used to rebuild or verify the live counter. */
+    int scanRemainingBricks() {
         int count = 0;
         for (Brick brick : bricks) {
             if (!brick.isDestroyed() && brick.getType() != BrickType.UNBREAKABLE) {
@@ -76,6 +116,17 @@ public abstract class AbstractLevel implements LevelInterface {
         return maxScore;
     }
 
+    /**
+     * Subscribes to every current brick and recounts the remaining breakable ones.
+     * Call after the brick list is rebuilt (initialize/reset).
+     */
+    protected void trackBricks() {
+        for (Brick brick : bricks) {
+            brick.setDestroyListener(this);
+        }
+        remainingBreakable = scanRemainingBricks();
+    }
+
     /**
      * Helper to backup initial state.
      */
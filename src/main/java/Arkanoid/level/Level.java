@@ -3,7 +3,9 @@ package Arkanoid.level;
 import Arkanoid.model.Brick;
 import Arkanoid.model.BrickType;
 import Arkanoid.model.MovingBrick;
+import Arkanoid.model.Tickable;
 import Arkanoid.util.Constants;
+import Arkanoid.util.Log;
 import javafx.scene.paint.Color;
 
 /**
@@ -22,12 +24,16 @@ public class Level extends AbstractLevel {
     @Override
     public void initialize() {
         bricks.clear();
+        activeEntities.clear();
 
         if (levelData.getBricks() != null) {
             // Load from LevelData
             for (LevelData.BrickData brickData : levelData.getBricks()) {
                 Brick brick = createBrickFromData(brickData);
                 bricks.add(brick);
+                if (brick instanceof Tickable) {
+                    activeEntities.add((Tickable) brick);
+                }
             }
         } else {
             // Fallback: create default layout when no data exists
@@ -36,7 +42,8 @@ public class Level extends AbstractLevel {
 
         // Backup initial state for later resets
         backupInitialState();
-        System.out.println("Initialized " + bricks.size() + " bricks");
+        trackBricks();
+        Log.info("Initialized " + bricks.size() + " bricks");
     }
 
     @Override
@@ -0,0 +1,22 @@
+package Arkanoid.level;
+
+/**
+ * Catalog entry for one level: what the level selection screen shows, read without
+ * building the level's bricks (see {@link LevelLoader#readInfo(int)}).
+ */
+public final class LevelInfo {
+    private final int levelNumber;
+    private final String name;
+    private final int brickCount;
+
+    public LevelInfo(int levelNumber, String name, int brickCount) {
+        this.levelNumber = levelNumber;
+        this.name = name;
+        this.brickCount = brickCount;
+    }
+
+    public int getLevelNumber() { return levelNumber; }
+    public String getName() { return name; }
+    /** @return bricks listed in the level file, 0 for the generated default layout. */
+    public int getBrickCount() { return brickCount; }
+}
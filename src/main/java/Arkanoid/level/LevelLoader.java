@@ -1,11 +1,16 @@
 package Arkanoid.level;
 
+import Arkanoid.jfr.LevelLoadEvent;
+import Arkanoid.util.Log;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 /**
@@ -25,36 +30,105 @@ public class LevelLoader {
      * @return parsed {@link LevelData} or null on error/missing file
      */
     public static LevelData loadLevel(int levelNumber) {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        LevelData data = readLevel(levelNumber, event);
+        if (event.shouldCommit()) {
+            event.levelNumber = levelNumber;
+            event.success = data != null;
+            event.brickCount = data != null && data.getBricks() != null ? data.getBricks().size() : 0;
+            event.commit();
+        }
+        return data;
+    }
+
+    private static LevelData readLevel(int levelNumber, LevelLoadEvent event) {
     String filename = "/levels/level" + levelNumber + ".json"; // in resources
 
         try (InputStream is = LevelLoader.class.getResourceAsStream(filename)) {
             if (is != null) {
                 // Load from classpath (resources)
+                event.source = "classpath";
                 try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
                     LevelData data = gson.fromJson(reader, LevelData.class);
-                    System.out.println("Loaded level " + levelNumber + " from resources: " + data.getName());
+                    Log.info("Loaded level " + levelNumber + " from resources: " + data.getName());
                     return data;
                 }
             } else {
                 // Fallback: read from resources/levels on filesystem
                 String fallback = LEVELS_PATH + "level" + levelNumber + ".json";
+                event.source = fallback;
                 if (Files.exists(Paths.get(fallback))) {
                     String json = new String(Files.readAllBytes(Paths.get(fallback)), StandardCharsets.UTF_8);
                     LevelData data = gson.fromJson(json, LevelData.class);
-                    System.out.println("Loaded level " + levelNumber + " from filesystem: " + data.getName());
+                    Log.info("Loaded level " + levelNumber + " from filesystem: " + data.getName());
                     return data;
                 } else {
-                    System.err.println("Missing level file: " + fallback);
+                    Log.warn("Missing level file: " + fallback);
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error loading level " + levelNumber + ": " + e.getMessage());
-            e.printStackTrace();
+            Log.error("Error loading level " + levelNumber + ": " + e.getMessage(), e);
         }
 
         return null;
     }
 
+    /**
+     * Reads only a level's number, name and brick count, streaming past the brick entries
+     * without building them; enough for the level catalog.
+     * @return metadata, or null if the file is missing or broken
+     */
+    public static LevelInfo readInfo(int levelNumber) {
+        try (Reader reader = openLevel(levelNumber)) {
+            if (reader == null) return null;
+            return readInfo(levelNumber, new JsonReader(reader));
+        } catch (Exception e) {
+            Log.error("Error reading level info " + levelNumber + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    static LevelInfo readInfo(int levelNumber, JsonReader json) throws IOException {
+        int number = levelNumber;
+        String name = "Level " + levelNumber;
+        int brickCount = 0;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            String key = json.nextName();
+            if (json.peek() == JsonToken.NULL) {
+                json.nextNull();
+                continue;
+            }
+            switch (key) {
+                case "levelNumber" -> number = json.nextInt();
+                case "name" -> name = json.nextString();
+                case "bricks" -> {
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        json.skipValue();
+                        brickCount++;
+                    }
+                    json.endArray();
+                }
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+        return new LevelInfo(number, name, brickCount);
+    }
+
+    /** @return reader on the level file from classpath or filesystem fallback, or null if missing. */
+    private static Reader openLevel(int levelNumber) throws IOException {
+        InputStream is = LevelLoader.class.getResourceAsStream("/levels/level" + levelNumber + ".json");
+        if (is != null) {
+            return new InputStreamReader(is, StandardCharsets.UTF_8);
+        }
+        Path fallback = Paths.get(LEVELS_PATH + "level" + levelNumber + ".json");
+        return Files.exists(fallback) ? Files.newBufferedReader(fallback, StandardCharsets.UTF_8) : null;
+    }
+
     /**
      * Loads levels 1..maxLevel, returning an array (entries may be null if missing).
      */
@@ -105,10 +179,10 @@ public class LevelLoader {
                 gson.toJson(levelData, writer);
             }
 
-            System.out.println("Saved level " + levelData.getLevelNumber() + " -> " + filename);
+            Log.info("Saved level " + levelData.getLevelNumber() + " -> " + filename);
             return true;
         } catch (IOException e) {
-            System.err.println("Error saving level: " + e.getMessage());
+            Log.warn("Error saving level: " + e.getMessage());
             return false;
         }
     }
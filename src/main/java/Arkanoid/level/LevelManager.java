@@ -1,63 +1,201 @@
 package Arkanoid.level;
 
+import Arkanoid.util.AssetLoader;
+import Arkanoid.util.Log;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Manages level progression and selection.
- * Holds a list of loaded Level instances, tracks the current index,
- * and provides navigation (next/previous/select) as well as unlock logic.
+ * Keeps a catalog with every level's metadata, but builds a level (parses its file and
+ * creates its bricks) only when it becomes current; the level after it is prefetched on
+ * the asset loader, and levels left behind are released. Memory grows with the levels in
+ * use, not with the catalog. Tracks the current index and provides navigation
+ * (next/previous/select) as well as unlock logic.
+ * <p>
+ * Levels are built and released only on the thread that owns the engine. The catalog is
+ * published as an immutable list, and the current index and unlock level are volatile, so
+ * the level selection screen may read them from the FX thread.
  */
 public class LevelManager {
-    private List<Level> levels;
-    private int currentLevelIndex;
-    private int totalLevels;
-    private int highestUnlockedLevel;
+    /** Catalog entry: metadata always, the built level only while it is in use. */
+    private static final class Slot {
+        final int fileNumber;
+        final LevelInfo info;
+        final boolean pinned;           // added prebuilt, cannot be rebuilt from a file
+        CompletableFuture<Level> level; // null = not built or released
+
+        Slot(int fileNumber, LevelInfo info, Level prebuilt) {
+            this.fileNumber = fileNumber;
+            this.info = info;
+            this.pinned = prebuilt != null;
+            this.level = prebuilt != null ? CompletableFuture.completedFuture(prebuilt) : null;
+        }
+
+        boolean isBuilt() {
+            return level != null && level.isDone() && !level.isCompletedExceptionally();
+        }
+    }
+
+    private final List<Slot> slots; // owner thread only
+    private volatile List<LevelInfo> catalog = List.of();
+    private volatile int currentLevelIndex;
+    private volatile int highestUnlockedLevel;
+    private AssetLoader prefetcher;  // null = levels are only built on demand
+    private int residentIndex = -1;  // current index the built set was last trimmed for
 
     public LevelManager() {
-        this.levels = new ArrayList<>();
+        this.slots = new ArrayList<>();
         this.currentLevelIndex = 0;
         this.highestUnlockedLevel = Integer.MAX_VALUE; // Unlock all levels by default
     }
 
     /**
-     * Loads up to maxLevels from LevelLoader and initializes each level.
+     * Reads the catalog for levels 1..maxLevels; the levels themselves are built on first use.
      */
     public void loadLevels(int maxLevels) {
-        levels.clear();
-        this.totalLevels = maxLevels;
+        setCatalog(readCatalog(maxLevels));
+    }
 
+    /**
+     * Reads the metadata of levels 1..maxLevels without building any bricks. Missing or
+     * broken files get the default sample level's entry. Safe on loader threads.
+     */
+    public static List<LevelInfo> readCatalog(int maxLevels) {
+        List<LevelInfo> catalog = new ArrayList<>();
         for (int i = 1; i <= maxLevels; i++) {
-            LevelData levelData = LevelLoader.loadLevel(i);
-
-            if (levelData != null) {
-                Level level = new Level(levelData);
-                level.initialize();
-                levels.add(level);
-            } else {
-                // If loading fails, create a default sample level
-                System.out.println("Creating default level " + i);
-                LevelData defaultData = LevelLoader.createSampleLevel(i, "Level " + i);
-                Level level = new Level(defaultData);
-                level.initialize();
-                levels.add(level);
+            LevelInfo info = LevelLoader.readInfo(i);
+            if (info == null) {
+                LevelData sample = LevelLoader.createSampleLevel(i, "Level " + i);
+                info = new LevelInfo(i, sample.getName(), sample.getBricks().size());
             }
+            catalog.add(info);
         }
+        return catalog;
+    }
 
-        System.out.println("Loaded " + levels.size() + " levels");
+    /**
+     * Replaces the catalog; entry i is built from level file i + 1. With a prefetcher the
+     * first level starts building right away.
+     */
+    public void setCatalog(List<LevelInfo> catalog) {
+        slots.clear();
+        for (int i = 0; i < catalog.size(); i++) {
+            slots.add(new Slot(i + 1, catalog.get(i), null));
+        }
+        this.catalog = List.copyOf(catalog);
+        currentLevelIndex = 0;
+        residentIndex = -1;
+        Log.info("Level catalog: " + slots.size() + " levels");
+        prefetch(0);
+    }
+
+    /** Builds upcoming levels on this loader in the background; null turns prefetching off. */
+    public void setPrefetcher(AssetLoader prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    /**
+     * Loads and initializes one level, falling back to a default sample level if its file
+     * is missing or broken. Touches no manager state, so it is safe on loader threads.
+     */
+    public static Level createLevel(int levelNumber) {
+        LevelData levelData = LevelLoader.loadLevel(levelNumber);
+        if (levelData == null) {
+            // If loading fails, create a default sample level
+            Log.info("Creating default level " + levelNumber);
+            levelData = LevelLoader.createSampleLevel(levelNumber, "Level " + levelNumber);
+        }
+        Level level = new Level(levelData);
+        level.initialize();
+        return level;
+    }
+
+    /**
+     * Appends an already built level (e.g. generated layouts for tests or benchmarks).
+     * The level is initialized if it has no bricks yet, and is never released.
+     */
+    public void addLevel(Level level) {
+        if (level.getBricks().isEmpty()) {
+            level.initialize();
+        }
+        LevelInfo info = new LevelInfo(level.getLevelNumber(), level.getLevelName(), level.getBricks().size());
+        slots.add(new Slot(slots.size() + 1, info, level));
+        List<LevelInfo> grown = new ArrayList<>(catalog);
+        grown.add(info);
+        catalog = List.copyOf(grown);
     }
 
-    /** Returns the currently selected Level or null if none. */
+    /**
+     * Returns the currently selected Level or null if none, building it if needed (waits
+     * for a running prefetch instead of parsing twice). The first call after the current
+     * level changed releases the levels left behind and prefetches the next one.
+     */
     public Level getCurrentLevel() {
-        if (levels.isEmpty()) return null;
-        return levels.get(currentLevelIndex);
+        if (slots.isEmpty()) return null;
+        Level level = build(slots.get(currentLevelIndex));
+        if (residentIndex != currentLevelIndex) {
+            residentIndex = currentLevelIndex;
+            releaseAllExcept(currentLevelIndex, currentLevelIndex + 1);
+            prefetch(currentLevelIndex + 1);
+        }
+        return level;
+    }
+
+    /**
+     * @return true if {@link #getCurrentLevel()} returns without waiting on a file. With a
+     *         prefetcher an unbuilt current level is queued on it and this stays false until
+     *         the loader finished, so the engine thread never parses a level itself.
+     */
+    public boolean isCurrentLevelReady() {
+        if (slots.isEmpty()) return true;
+        Slot slot = slots.get(currentLevelIndex);
+        if (slot.level == null) {
+            if (prefetcher == null) return true; // built on demand by getCurrentLevel()
+            prefetch(currentLevelIndex);
+        }
+        return slot.level.isDone();
+    }
+
+    private Level build(Slot slot) {
+        if (slot.level != null) {
+            try {
+                return slot.level.join();
+            } catch (CompletionException e) {
+                Log.warn("Prefetch of level " + slot.fileNumber + " failed, loading it now");
+            }
+        }
+        Level level = createLevel(slot.fileNumber);
+        slot.level = CompletableFuture.completedFuture(level);
+        return level;
+    }
+
+    private void prefetch(int index) {
+        if (prefetcher == null || index < 0 || index >= slots.size()) return;
+        Slot slot = slots.get(index);
+        if (slot.level == null) {
+            int fileNumber = slot.fileNumber;
+            slot.level = prefetcher.submit("level " + fileNumber, () -> createLevel(fileNumber));
+        }
+    }
+
+    private void releaseAllExcept(int keep, int keepNext) {
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            if (i != keep && i != keepNext && !slot.pinned) {
+                slot.level = null;
+            }
+        }
     }
 
     /** Advances to next level if available.
      * @return true if moved to next level
      */
     public boolean nextLevel() {
-        if (currentLevelIndex < levels.size() - 1) {
+        if (currentLevelIndex < slots.size() - 1) {
             currentLevelIndex++;
 
             // Unlock newly reached level if needed
@@ -88,7 +226,7 @@ public class LevelManager {
     public boolean selectLevel(int levelNumber) {
         int index = levelNumber - 1;
 
-        if (index >= 0 && index < levels.size() && levelNumber <= highestUnlockedLevel) {
+        if (index >= 0 && index < slots.size() && levelNumber <= highestUnlockedLevel) {
             currentLevelIndex = index;
             return true;
         }
@@ -102,17 +240,19 @@ public class LevelManager {
         }
     }
 
-    /** Resets progression to level 1 and resets all levels. */
+    /** Resets progression to level 1 and resets all levels still in memory; released ones are rebuilt fresh. */
     public void restartGame() {
         currentLevelIndex = 0;
-        for (Level level : levels) {
-            level.reset();
+        for (Slot slot : slots) {
+            if (slot.isBuilt()) {
+                slot.level.join().reset();
+            }
         }
     }
 
     /** @return true if the last level is selected and completed. */
     public boolean isGameComplete() {
-        return currentLevelIndex >= levels.size() - 1 &&
+        return currentLevelIndex >= slots.size() - 1 &&
                 getCurrentLevel() != null &&
                 getCurrentLevel().isCompleted();
     }
@@ -122,9 +262,22 @@ public class LevelManager {
         return currentLevelIndex + 1;
     }
 
-    /** @return total number of loaded levels. */
+    /** @return number of levels in the catalog, built or not; safe from any thread. */
     public int getTotalLevels() {
-        return levels.size();
+        return catalog.size();
+    }
+
+    /** @return catalog metadata of a 1-based level, or null if it does not exist; safe from any thread. */
+    public LevelInfo getLevelInfo(int levelNumber) {
+        List<LevelInfo> entries = catalog;
+        int index = levelNumber - 1;
+        return index >= 0 && index < entries.size() ? entries.get(index) : null;
+    }
+
+    /** @return true if the level is built or being prefetched; owner thread only. */
+    public boolean isLevelResident(int levelNumber) {
+        int index = levelNumber - 1;
+        return index >= 0 && index < slots.size() && slots.get(index).level != null;
     }
 
     /** @return highest unlocked level number. */
@@ -134,7 +287,7 @@ public class LevelManager {
 
     /** Sets the highest unlocked level, clamped to total levels. */
     public void setHighestUnlockedLevel(int level) {
-        this.highestUnlockedLevel = Math.min(level, totalLevels);
+        this.highestUnlockedLevel = Math.min(level, catalog.size());
     }
 
     /** @return true if the given 1-based level is unlocked. */
@@ -144,17 +297,21 @@ public class LevelManager {
 
     /** Unlocks all levels. */
     public void unlockAllLevels() {
-        highestUnlockedLevel = totalLevels;
+        highestUnlockedLevel = catalog.size();
     }
 
-    /** @return a copy of the internal level list. */
+    /** @return the levels currently built: the current one, a prefetched next one and added levels. */
     public List<Level> getAllLevels() {
-        return new ArrayList<>(levels);
+        List<Level> built = new ArrayList<>();
+        for (Slot slot : slots) {
+            if (slot.isBuilt()) built.add(slot.level.join());
+        }
+        return built;
     }
 
     /** @return overall progress percentage across levels. */
     public double getProgress() {
-        if (totalLevels == 0) return 0.0;
-        return (double) (currentLevelIndex + 1) / totalLevels * 100.0;
+        if (slots.isEmpty()) return 0.0;
+        return (double) (currentLevelIndex + 1) / slots.size() * 100.0;
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -115,6 +116,11 @@ public class LevelSelectionView {
         button.setPrefSize(100, 100);
 
         boolean isUnlocked = levelManager.isLevelUnlocked(levelNumber);
+        LevelInfo info = levelManager.getLevelInfo(levelNumber);
+        if (info != null) {
+            // From the catalog; the level itself is only built when selected
+            button.setTooltip(new Tooltip(info.getName() + " - " + info.getBrickCount() + " bricks"));
+        }
 
         if (isUnlocked) {
             styleButton(button, "#3498db");
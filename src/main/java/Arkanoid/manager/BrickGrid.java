@@ -0,0 +1,163 @@
+package Arkanoid.manager;
+
+import Arkanoid.model.Brick;
+import Arkanoid.util.Constants;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform spatial index over the brick layout grid used as a collision broadphase.
+ * Cells follow the level layout (BRICK_OFFSET_X/Y, BRICK_WIDTH/HEIGHT + BRICK_PADDING),
+ * so a static brick lives in exactly one cell while moving bricks may span several.
+ * Bricks outside the playfield are clamped into the border cells.
+ */
+public class BrickGrid {
+    public static final double CELL_WIDTH = Constants.BRICK_WIDTH + Constants.BRICK_PADDING;
+    public static final double CELL_HEIGHT = Constants.BRICK_HEIGHT + Constants.BRICK_PADDING;
+    public static final int COLS = (int) Math.ceil((Constants.WINDOW_WIDTH - Constants.BRICK_OFFSET_X) / CELL_WIDTH) + 1;
+    public static final int ROWS = (int) Math.ceil((Constants.WINDOW_HEIGHT - Constants.BRICK_OFFSET_Y) / CELL_HEIGHT) + 1;
+
+    private final List<List<Brick>> cells;
+    // Cell range currently occupied by each brick: {minCol, minRow, maxCol, maxRow}
+    private final Map<Brick, int[]> ranges = new IdentityHashMap<>();
+
+    public BrickGrid() {
+        cells = new ArrayList<>(COLS * ROWS);
+        for (int i = 0; i < COLS * ROWS; i++) {
+            cells.add(new ArrayList<>(2));
+        }
+    }
+
+    /** Clears the grid and indexes every live brick in the given list. */
+    public void rebuild(List<Brick> bricks) {
+        clear();
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
+            if (!brick.isDestroyed()) insert(brick);
+        }
+    }
+
+    /** Removes all bricks from the grid. */
+    public void clear() {
+        for (int i = 0; i < cells.size(); i++) {
+            cells.get(i).clear();
+        }
+        ranges.clear();
+    }
+
+    /** Adds a brick to every cell its bounds overlap. */
+    public void insert(Brick brick) {
+        if (ranges.containsKey(brick)) return;
+        int[] range = new int[4];
+        computeRange(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight(), range);
+        addToCells(brick, range);
+        ranges.put(brick, range);
+    }
+
+    /** Removes a brick from the grid; no-op if it is not indexed. */
+    public void remove(Brick brick) {
+        int[] range = ranges.remove(brick);
+        if (range != null) removeFromCells(brick, range);
+    }
+
+    /**
+     * Re-indexes a brick after it moved. Only touches the cell lists when the brick
+     * crossed into a different set of cells.
+     */
+    public void update(Brick brick) {
+        int[] range = ranges.get(brick);
+        if (range == null) return;
+        int minCol = colOf(brick.getX());
+        int minRow = rowOf(brick.getY());
+        int maxCol = colOf(brick.getX() + brick.getWidth());
+        int maxRow = rowOf(brick.getY() + brick.getHeight());
+        if (minCol == range[0] && minRow == range[1] && maxCol == range[2] && maxRow == range[3]) {
+            return;
+        }
+        removeFromCells(brick, range);
+        range[0] = minCol;
+        range[1] = minRow;
+        range[2] = maxCol;
+        range[3] = maxRow;
+        addToCells(brick, range);
+    }
+
+    /**
+     * Collects the live bricks whose cells overlap the given rectangle into {@code out}.
+     * The output list is cleared first; each brick appears at most once.
+     */
+    public void query(double x, double y, double width, double height, List<Brick> out) {
+        out.clear();
+        int minCol = colOf(x);
+        int minRow = rowOf(y);
+        int maxCol = colOf(x + width);
+        int maxRow = rowOf(y + height);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<Brick> cell = cells.get(row * COLS + col);
+                for (int i = 0; i < cell.size(); i++) {
+                    Brick brick = cell.get(i);
+                    if (brick.isDestroyed()) continue;
+                    // Only multi-cell bricks can be seen twice
+                    int[] range = ranges.get(brick);
+                    if (range[0] != range[2] || range[1] != range[3]) {
+                        if (out.contains(brick)) continue;
+                    }
+                    out.add(brick);
+                }
+            }
+        }
+    }
+
+    /** @return number of indexed bricks. */
+    public int size() {
+        return ranges.size();
+    }
+
+    /** @return true if the brick is currently indexed. */
+    public boolean contains(Brick brick) {
+        return ranges.containsKey(brick);
+    }
+
+    private void computeRange(double x, double y, double width, double height, int[] range) {
+        range[0] = colOf(x);
+        range[1] = rowOf(y);
+        range[2] = colOf(x + width);
+        range[3] = rowOf(y + height);
+    }
+
+    private void addToCells(Brick brick, int[] range) {
+        for (int row = range[1]; row <= range[3]; row++) {
+            for (int col = range[0]; col <= range[2]; col++) {
+                cells.get(row * COLS + col).add(brick);
+            }
+        }
+    }
+
+    private void removeFromCells(Brick brick, int[] range) {
+        for (int row = range[1]; row <= range[3]; row++) {
+            for (int col = range[0]; col <= range[2]; col++) {
+                List<Brick> cell = cells.get(row * COLS + col);
+                for (int i = 0; i < cell.size(); i++) {
+                    if (cell.get(i) == brick) {
+                        cell.remove(i);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int colOf(double x) {
+        int col = (int) Math.floor((x - Constants.BRICK_OFFSET_X) / CELL_WIDTH);
+        return Math.max(0, Math.min(COLS - 1, col));
+    }
+
+    private static int rowOf(double y) {
+        int row = (int) Math.floor((y - Constants.BRICK_OFFSET_Y) / CELL_HEIGHT);
+        return Math.max(0, Math.min(ROWS - 1, row));
+    }
+}
@@ -1,10 +1,15 @@
 package Arkanoid.manager;
 
+import Arkanoid.audio.SoundId;
+import Arkanoid.engine.SoundSink;
+import Arkanoid.jfr.CollisionPassEvent;
 import Arkanoid.model.Ball;
 import Arkanoid.model.Brick;
 import Arkanoid.model.Paddle;
 import Arkanoid.model.PowerUps;
+import Arkanoid.util.FrameMetrics;
 
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -14,28 +19,227 @@ import java.util.List;
  */
 public class CollisionManager {
     private static final double EPSILON = 0.1; // small offset to avoid re-colliding next frame
+    private static final int MAX_CONTACTS_PER_TICK = 4;
+
+    // Reused broadphase result buffer to avoid per-ball allocations
+    private final List<Brick> candidates = new ArrayList<>();
+    private final Sweep sweep = new Sweep();
+    private final SoundSink soundSink;
+    private final FrameMetrics metrics = FrameMetrics.getInstance();
+    private int bricksTested; // since the last recordBricksTested()
+
+    /** Receives bricks touched by the swept resolver so callers can apply damage/score. */
+    public interface BrickHitHandler {
+        void onBrickHit(Brick brick);
+    }
+
+    /** Result of a swept AABB test: time of impact and contact axis. */
+    public static final class Sweep {
+        public double time;
+        public boolean xAxis;
+    }
+
+    public CollisionManager() {
+        this(SoundSink.NONE);
+    }
+
+    /** @param soundSink receives paddle/wall hit cues */
+    public CollisionManager(SoundSink soundSink) {
+        this.soundSink = soundSink;
+    }
 
     /**
      * Resolves ball/paddle collision: bounce upward, adjust outgoing angle based on hit position,
      * and place the ball just above the paddle to prevent sticking.
+     * @return true if the ball bounced off the paddle
      */
-    public void checkBallPaddleCollision(Ball ball, Paddle paddle) {
+    public boolean checkBallPaddleCollision(Ball ball, Paddle paddle) {
         if (ball.intersects(paddle) && ball.getVelocityY() > 0) {
-            ball.reverseY();
+            bounceOffPaddle(ball, paddle);
+            return true;
+        }
+        return false;
+    }
+
+    private void bounceOffPaddle(Ball ball, Paddle paddle) {
+        ball.reverseY();
 
-            // Calculate hit position on paddle (-1 to 1)
-            double hitPosition = (ball.getCenterX() - paddle.getCenterX()) / (paddle.getWidth() / 2);
-            hitPosition = Math.max(-1, Math.min(1, hitPosition));
+        // Calculate hit position on paddle (-1 to 1)
+        double hitPosition = (ball.getCenterX() - paddle.getCenterX()) / (paddle.getWidth() / 2);
+        hitPosition = Math.max(-1, Math.min(1, hitPosition));
 
-            ball.adjustAngle(hitPosition);
+        ball.adjustAngle(hitPosition);
 
-            // Move ball above paddle to prevent sticking
-            double newY = paddle.getY() - ball.getHeight() - EPSILON;
-            ball.setY(newY);
-            // Keep smoothed position in sync if available
-            ball.setSmoothY(newY);
-            Arkanoid.audio.SoundManager.getInstance().playSound("effect_paddle");
+        // Move ball above paddle to prevent sticking
+        double newY = paddle.getY() - ball.getHeight() - EPSILON;
+        ball.setY(newY);
+        // Keep smoothed position in sync if available
+        ball.setSmoothY(newY);
+        soundSink.playAt(SoundId.EFFECT_PADDLE, ball.getCenterX());
+    }
+
+    /**
+     * Moves a free ball through one tick using swept AABB (continuous) collision detection.
+     * The motion segment is tested against the paddle and the bricks in the cells it crosses;
+     * the ball advances to the earliest time of impact, reflects, and continues with the
+     * remaining motion, resolving up to {@link #MAX_CONTACTS_PER_TICK} contacts. This keeps
+     * fast balls from tunnelling through bricks or the paddle at low tick rates.
+     * Wall bounces are applied once the motion is consumed.
+     *
+     * @param handler notified for every brick the ball touches; may destroy/remove it
+     * @return number of contacts resolved during this tick
+     */
+    public int moveBall(Ball ball, double deltaTime, Paddle paddle, BrickGrid grid, BrickHitHandler handler) {
+        // Standard JFR pattern: a no-op (and scalar-replaced by the JIT) unless recording
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        double remaining = 1.0;
+        int contacts = 0;
+        int tested = 0;
+
+        while (remaining > 0) {
+            double dx = ball.getVelocityX() * deltaTime * 60.0 * remaining;
+            double dy = ball.getVelocityY() * deltaTime * 60.0 * remaining;
+            if (dx == 0 && dy == 0) break;
+
+            double bx = ball.getX();
+            double by = ball.getY();
+            double bw = ball.getWidth();
+            double bh = ball.getHeight();
+
+            // Broadphase: every cell covered by the swept box
+            grid.query(Math.min(bx, bx + dx), Math.min(by, by + dy),
+                    bw + Math.abs(dx), bh + Math.abs(dy), candidates);
+
+            double bestTime = Double.POSITIVE_INFINITY;
+            boolean bestXAxis = false;
+            Brick bestBrick = null;
+            tested += candidates.size();
+            for (int i = 0; i < candidates.size(); i++) {
+                Brick brick = candidates.get(i);
+                if (brick.isDestroyed()) continue;
+                if (sweep(bx, by, bw, bh, dx, dy,
+                        brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight(), sweep)
+                        && sweep.time < bestTime) {
+                    bestTime = sweep.time;
+                    bestXAxis = sweep.xAxis;
+                    bestBrick = brick;
+                }
+            }
+
+            boolean paddleHit = false;
+            if (dy > 0 && sweep(bx, by, bw, bh, dx, dy,
+                    paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight(), sweep)
+                    && sweep.time < bestTime) {
+                bestTime = sweep.time;
+                paddleHit = true;
+            }
+
+            if (bestTime > 1.0) {
+                ball.translate(dx, dy);
+                break;
+            }
+
+            // Advance to the contact point, then respond
+            ball.translate(dx * bestTime, dy * bestTime);
+            contacts++;
+
+            if (paddleHit) {
+                bounceOffPaddle(ball, paddle);
+            } else {
+                // Back off slightly so the ball is no longer touching the brick
+                if (bestXAxis) {
+                    ball.translate(-Math.signum(dx) * EPSILON, 0);
+                    ball.reverseX();
+                } else {
+                    ball.translate(0, -Math.signum(dy) * EPSILON);
+                    ball.reverseY();
+                }
+                if (handler != null) handler.onBrickHit(bestBrick);
+            }
+
+            remaining *= (1.0 - bestTime);
+            if (contacts >= MAX_CONTACTS_PER_TICK) break;
+        }
+
+        if (ball.checkWallCollision()) {
+            soundSink.playAt(SoundId.EFFECT_WALL, ball.getCenterX());
+        }
+        bricksTested += tested;
+        if (event.shouldCommit()) {
+            event.bricksTested = tested;
+            event.contacts = contacts;
+            event.commit();
+        }
+        return contacts;
+    }
+
+    /**
+     * Records the bricks tested since the last call (swept move plus overlap fallback) as
+     * one {@link FrameMetrics.Metric#BRICKS_TESTED} sample. Call once per ball per tick.
+     */
+    public void recordBricksTested() {
+        metrics.record(FrameMetrics.Metric.BRICKS_TESTED, bricksTested);
+        bricksTested = 0;
+    }
+
+    /**
+     * Swept AABB test of box A moving by (dx, dy) against static box B.
+     * On a hit, {@code out} receives the time of impact in [0, 1] along the motion and
+     * whether the contact face is vertical (x axis). Boxes that already overlap, or that
+     * only graze along an edge, do not count as a hit.
+     */
+    public static boolean sweep(double ax, double ay, double aw, double ah, double dx, double dy,
+                                double bx, double by, double bw, double bh, Sweep out) {
+        double xEntry, xExit, yEntry, yExit;
+
+        if (dx > 0) {
+            xEntry = (bx - (ax + aw)) / dx;
+            xExit = (bx + bw - ax) / dx;
+        } else if (dx < 0) {
+            xEntry = (bx + bw - ax) / dx;
+            xExit = (bx - (ax + aw)) / dx;
+        } else if (ax < bx + bw && ax + aw > bx) {
+            xEntry = Double.NEGATIVE_INFINITY;
+            xExit = Double.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+
+        if (dy > 0) {
+            yEntry = (by - (ay + ah)) / dy;
+            yExit = (by + bh - ay) / dy;
+        } else if (dy < 0) {
+            yEntry = (by + bh - ay) / dy;
+            yExit = (by - (ay + ah)) / dy;
+        } else if (ay < by + bh && ay + ah > by) {
+            yEntry = Double.NEGATIVE_INFINITY;
+            yExit = Double.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+
+        double entry = Math.max(xEntry, yEntry);
+        double exit = Math.min(xExit, yExit);
+        if (entry >= exit || entry < 0 || entry > 1) {
+            return false;
         }
+
+        out.time = entry;
+        out.xAxis = xEntry > yEntry;
+        return true;
+    }
+
+    /**
+     * Resolves a brick collision using the spatial grid as broadphase: only bricks in the
+     * cells overlapped by the ball are tested.
+     * Returns the brick hit so callers can apply damage/score logic.
+     */
+    public Brick checkBallBrickCollision(Ball ball, BrickGrid grid) {
+        grid.query(ball.getX(), ball.getY(), ball.getWidth(), ball.getHeight(), candidates);
+        bricksTested += candidates.size();
+        if (candidates.isEmpty()) return null;
+        return checkBallBrickCollision(ball, candidates);
     }
 
     /**
@@ -44,7 +248,8 @@ public class CollisionManager {
      * Returns the brick hit so callers can apply damage/score logic.
      */
     public Brick checkBallBrickCollision(Ball ball, List<Brick> bricks) {
-        for (Brick brick : bricks) {
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
             if (!brick.isDestroyed() && ball.intersects(brick)) {
                 // Compute centers and overlaps
                 double dx = ball.getCenterX() - brick.getCenterX();
@@ -93,7 +298,8 @@ public class CollisionManager {
     }
 
     public PowerUps checkPaddlePowerUpCollision(Paddle paddle, List<PowerUps> powerUps) {
-        for (PowerUps powerUp : powerUps) {
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUps powerUp = powerUps.get(i);
             if (!powerUp.isCollected() && paddle.intersects(powerUp)) {
                 powerUp.collect();
                 return powerUp;
@@ -1,12 +1,26 @@
 package Arkanoid.manager;
 
+import Arkanoid.engine.GameEngine;
+import Arkanoid.engine.WorldSnapshot;
 import Arkanoid.level.Level;
+import Arkanoid.level.LevelInfo;
+import Arkanoid.level.LevelLoader;
 import Arkanoid.level.LevelManager;
 import Arkanoid.model.*;
-import Arkanoid.util.Constants;
 import Arkanoid.audio.SoundManager;
+import Arkanoid.audio.SoundId;
+import Arkanoid.util.AssetLoader;
+import Arkanoid.util.Constants;
+import Arkanoid.util.FixedTimestep;
+import Arkanoid.util.FrameMetrics;
+import Arkanoid.util.Log;
+import Arkanoid.util.SimulationThread;
+import Arkanoid.util.TripleBuffer;
+import javafx.application.Platform;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -14,38 +28,34 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Central coordinator for game state, entities and level progression.
+ * Wraps the headless {@link GameEngine} with the JavaFX-side concerns: sound loading,
+ * music on state changes and the stage-start jingle scheduler.
+ * The engine can run on its own {@link SimulationThread}: commands from the FX thread are
+ * then queued and applied at the start of the next tick, and the renderer reads
+ * {@link WorldSnapshot}s published through a {@link TripleBuffer} instead of live entities.
  * FIXED: Proper thread management, no memory leaks, cancellable tasks.
  */
 public class GameManager {
-    private GameState currentState;
-    private Paddle paddle;
-    private List<Ball> balls;
-    private List<Brick> bricks;
-    private List<PowerUps> powerUps;
-    private CollisionManager collisionManager;
-    private ScoreManager scoreManager;
-    private Random random;
-
-    // Level Management
-    private LevelManager levelManager;
-    private Level currentLevel;
-
-    // PowerUp timing
-    private final Map<PowerUpType, Double> activePowerUps;
+    private final GameEngine engine;
+    private final LevelManager levelManager;
 
     // ✅ Thread scheduler (single instance, reused)
     private final ScheduledExecutorService scheduler;
 
     // ✅ Track scheduled task để có thể cancel
-    private ScheduledFuture<?> stageStartTask;
+    private volatile ScheduledFuture<?> stageStartTask;
 
-    public GameManager() {
-        this.currentState = GameState.MENU;
-        this.collisionManager = new CollisionManager();
-        this.scoreManager = new ScoreManager();
-        this.random = new Random();
-        this.activePowerUps = new HashMap<>();
+    // ✅ Simulation thread hand-off: FX -> sim commands, sim -> FX snapshots
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final TripleBuffer<WorldSnapshot> snapshots = new TripleBuffer<>(WorldSnapshot::new);
+    private SimulationThread simulationThread;
+    private WorldSnapshot visibleSnapshot; // last snapshot handed to the FX thread
+
+    // ✅ Startup assets load in parallel; the level catalog is installed once the menu is ready
+    private final AssetLoader assets;
+    private final CompletableFuture<List<LevelInfo>> catalogLoad;
 
+    public GameManager() {
         // ✅ Initialize scheduler once
         this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "GameManager-Scheduler");
@@ -53,368 +63,220 @@ public class GameManager {
             return t;
         });
 
-        // Initialize Level Manager
+        this.assets = new AssetLoader(Constants.ASSET_LOADER_THREADS);
+
+        // Initialize Level Manager: only the catalog is read up front, levels are built when
+        // played and the next one is prefetched on the loader
         this.levelManager = new LevelManager();
-        int detected = Arkanoid.level.LevelLoader.countAvailableLevels(50);
-        if (detected <= 0) detected = 3;
-        this.levelManager.loadLevels(detected);
+        this.levelManager.setPrefetcher(assets);
+        // Probing for level files happens on the loader too, not before the loading screen
+        this.catalogLoad = assets.submitForMenu("level catalog", () -> {
+            int detected = LevelLoader.countAvailableLevels(50);
+            return LevelManager.readCatalog(detected > 0 ? detected : 3);
+        });
 
         // Load sounds
-        SoundManager.getInstance().loadDefaultSounds();
-        initializeGame();
+        SoundManager.getInstance().loadDefaultSounds(assets);
+        // Physics only queues cues; they are played together at the end of the frame
+        this.engine = new GameEngine(levelManager, SoundManager.getInstance()::enqueue);
+        engine.setCurrentState(GameState.LOADING);
     }
 
-    private void initializeGame() {
-        paddle = new Paddle();
-        balls = new ArrayList<>();
-        balls.add(new Ball(paddle));
-        bricks = new ArrayList<>();
-        powerUps = new ArrayList<>();
-
-        loadCurrentLevel();
-    }
-
-    private void loadCurrentLevel() {
-        currentLevel = levelManager.getCurrentLevel();
-
-        if (currentLevel != null) {
-            System.out.println("Loading level: " + currentLevel.getLevelName() +
-                    " (Level " + currentLevel.getLevelNumber() + ")");
-
-            bricks.clear();
-            bricks.addAll(currentLevel.getBricks());
-
-            System.out.println("Loaded " + bricks.size() + " bricks from level data");
-
-            try {
-                double levelBallSpeed = currentLevel.getBallSpeed();
-                int levelLives = currentLevel.getInitialLives();
-
-                if (levelLives > 0) {
-                    scoreManager.setLives(levelLives);
-                }
-
-                for (Ball b : balls) {
-                    b.setBaseSpeed(levelBallSpeed);
-                }
-            } catch (Exception ignored) {
-            }
-
-            // Debug
-            for (int i = 0; i < Math.min(3, bricks.size()); i++) {
-                Brick b = bricks.get(i);
-                System.out.println("   Brick " + i + ": type=" + b.getType() +
-                        ", pos=(" + b.getX() + "," + b.getY() + ")");
-            }
-        } else {
-            System.out.println("Current level is NULL! Using legacy level generation");
-            createLegacyLevel();
-        }
+    /**
+     * Leaves the LOADING screen for the menu once every menu asset is in, including the
+     * ones the view submitted after this manager was built. Call once at startup, after
+     * the view exists; the remaining assets keep loading in the background.
+     */
+    public void enterMenuWhenLoaded() {
+        assets.menuReady().thenRun(() -> post(this::finishLoading));
     }
 
-    private void createLegacyLevel() {
-        bricks.clear();
-        int level = scoreManager.getLevel();
-
-        for (int row = 0; row < Constants.BRICK_ROWS; row++) {
-            for (int col = 0; col < Constants.BRICK_COLS; col++) {
-                double x = Constants.BRICK_OFFSET_X + col * (Constants.BRICK_WIDTH + Constants.BRICK_PADDING);
-                double y = Constants.BRICK_OFFSET_Y + row * (Constants.BRICK_HEIGHT + Constants.BRICK_PADDING);
-
-                BrickType type = determineBrickType(row, level);
-                Brick brick = new Brick(
-                        x, y,
-                        Constants.BRICK_WIDTH,
-                        Constants.BRICK_HEIGHT,
-                        type,
-                        Constants.BRICK_COLORS[row % Constants.BRICK_COLORS.length]
-                );
-                bricks.add(brick);
-            }
-        }
+    private void finishLoading() {
+        levelManager.setCatalog(catalogLoad.isCompletedExceptionally() ? List.of() : catalogLoad.join());
+        engine.setCurrentState(GameState.MENU);
+        Log.info("✅ Menu ready: " + assets.getFinishedCount() + "/" + assets.getSubmittedCount() + " assets loaded");
     }
 
-    private BrickType determineBrickType(int row, int level) {
-        int chance = random.nextInt(100);
-        if (level > 3 && row < 2 && chance < 20)
-            return BrickType.UNBREAKABLE;
-        else if (level > 1 && chance < 30)
-            return BrickType.HARD;
-        return BrickType.NORMAL;
-    }
+    /** @return the shared loader, so the view can queue its images with the rest. */
+    public AssetLoader getAssetLoader() { return assets; }
 
     public void update(double deltaTime) {
-        if (currentState != GameState.PLAYING) return;
-
-        paddle.update(deltaTime);
-
-        for (Brick brick : bricks) {
-            brick.update(deltaTime);
+        GameState before = engine.getCurrentState();
+        long start = System.nanoTime();
+        engine.update(deltaTime);
+        FrameMetrics.getInstance().record(FrameMetrics.Metric.UPDATE, System.nanoTime() - start);
+
+        if (before == GameState.PLAYING && engine.getCurrentState() == GameState.GAME_OVER) {
+            audio(() -> {
+                SoundManager sm = SoundManager.getInstance();
+                sm.stopAll();
+                sm.playSound(SoundId.MUSIC_GAMEOVER);
+            });
         }
+    }
 
-        Iterator<Ball> ballIterator = balls.iterator();
-        while (ballIterator.hasNext()) {
-            Ball ball = ballIterator.next();
-            ball.update(deltaTime);
-
-            if (ball.isOutOfBounds()) {
-                ballIterator.remove();
-                if (balls.isEmpty()) {
-                    scoreManager.loseLife();
-                    if (scoreManager.isGameOver()) {
-                        currentState = GameState.GAME_OVER;
-                        SoundManager sm = SoundManager.getInstance();
-                        sm.stopAll();
-                        sm.playSound("music_gameover");
-                    } else {
-                        resetBall();
-                    }
-                }
-            } else {
-                checkCollisions(ball);
-            }
+    /**
+     * Runs the audio side effects of a command on the FX thread, which owns the media
+     * players and voice pools; commands themselves may run on the simulation thread.
+     */
+    private static void audio(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
         }
+    }
 
-        Iterator<PowerUps> powerUpIterator = powerUps.iterator();
-        while (powerUpIterator.hasNext()) {
-            PowerUps powerUp = powerUpIterator.next();
-            powerUp.update();
-
-            if (powerUp.isOutOfBounds()) {
-                powerUpIterator.remove();
-                continue;
+    /**
+     * Runs the simulation on a background thread from now on. Call once, from the FX thread;
+     * afterwards do not call {@link #update(double)} directly.
+     */
+    public void startSimulationThread() {
+        if (simulationThread != null) return;
+        FixedTimestep timestep = new FixedTimestep(Constants.FIXED_TIMESTEP, Constants.MAX_FRAME_TIME);
+        simulationThread = new SimulationThread(timestep, (steps, step) -> {
+            boolean changed = drainCommands();
+            for (int i = 0; i < steps; i++) {
+                update(step);
             }
-
-            if (!powerUp.isCollected() && paddle.intersects(powerUp)) {
-                powerUp.collect();
-                applyPowerUp(powerUp.getType());
-                scoreManager.addScore(Constants.SCORE_POWERUP);
-                powerUpIterator.remove();
+            if (changed || steps > 0) {
+                publishSnapshot(step);
             }
-        }
-
-        updateActivePowerUps();
-
-        if (isLevelComplete()) {
-            currentState = GameState.LEVEL_COMPLETE;
-        }
+        });
+        publishSnapshot(Constants.FIXED_TIMESTEP);
+        simulationThread.start();
+        Log.info("✅ Simulation thread started (" + Constants.SIMULATION_HZ + " Hz)");
     }
 
-    private void checkCollisions(Ball ball) {
-        collisionManager.checkBallPaddleCollision(ball, paddle);
-
-        Brick hitBrick = collisionManager.checkBallBrickCollision(ball, bricks);
-        if (hitBrick != null) {
-            boolean destroyed = hitBrick.hit();
-            if (destroyed) {
-                scoreManager.addScore(hitBrick.getScore());
-                SoundManager.getInstance().playSound("effect_brick");
-                SoundManager.getInstance().playSound("effect_score");
-
-                if (random.nextInt(100) < 15) {
-                    spawnPowerUp(hitBrick.getCenterX(), hitBrick.getCenterY());
-                }
+    /** @return true if the engine is stepped by the simulation thread. */
+    public boolean isSimulationThreaded() {
+        return simulationThread != null;
+    }
 
-                // Remove destroyed brick so it no longer renders or collides
-                bricks.remove(hitBrick);
-            }
+    /** Runs an engine mutation on the thread that owns the engine. */
+    private void execute(Runnable command) {
+        if (simulationThread != null) {
+            commands.add(command);
+        } else {
+            command.run();
         }
     }
 
-    private void spawnPowerUp(double x, double y) {
-        PowerUpType[] types = PowerUpType.values();
-        PowerUpType type = types[random.nextInt(types.length)];
-        powerUps.add(new PowerUps(x, y, type));
+    /**
+     * Queues a command for the thread that owns the engine, even when called from it or
+     * from a loader thread: the simulation thread or, without it, the next FX frame runs it.
+     */
+    private void post(Runnable command) {
+        commands.add(command);
     }
 
-    private void applyPowerUp(PowerUpType type) {
-        double now = System.currentTimeMillis(); // ✅ Đổi thành double
-
-        switch (type) {
-            case EXPAND_PADDLE:
-                paddle.expand();
-                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
-                break;
-
-            case SHRINK_PADDLE:
-                paddle.shrink();
-                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
-                break;
-
-            case SPEED_UP_BALL:
-                balls.forEach(Ball::increaseSpeed);
-                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
-                break;
-
-            case SPEED_DOWN_BALL:
-                balls.forEach(Ball::decreaseSpeed);
-                activePowerUps.put(type, now + Constants.POWERUP_DURATION);
-                break;
-
-            case EXTRA_LIFE:
-                scoreManager.addLife();
-                break;
-
-            case MULTI_BALL:
-                if (balls.size() < 5) {
-                    Ball baseBall = balls.get(0);
-                    Ball newBall = new Ball(paddle);
-                    newBall.setX(baseBall.getX());
-                    newBall.setY(baseBall.getY());
-                    newBall.setVelocityX(baseBall.getVelocityX() * (random.nextBoolean() ? 1 : -1));
-                    newBall.setVelocityY(baseBall.getVelocityY());
-                    newBall.launch();
-                    balls.add(newBall);
-                }
-                break;
+    /** @return true if any queued command ran. */
+    private boolean drainCommands() {
+        boolean ran = false;
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+            ran = true;
         }
+        return ran;
     }
 
-    private void updateActivePowerUps() {
-        double now = System.currentTimeMillis(); // ✅ Đổi thành double
-        Iterator<Map.Entry<PowerUpType, Double>> iterator = activePowerUps.entrySet().iterator(); // ✅ Đổi Long thành Double
-
-        while (iterator.hasNext()) {
-            Map.Entry<PowerUpType, Double> entry = iterator.next(); // ✅ Đổi Long thành Double
-            if (now > entry.getValue()) {
-                deactivatePowerUp(entry.getKey());
-                iterator.remove();
-            }
-        }
+    private void publishSnapshot(double step) {
+        snapshots.back().capture(engine, step);
+        snapshots.publish();
     }
 
-    private void deactivatePowerUp(PowerUpType type) {
-        switch (type) {
-            case EXPAND_PADDLE:
-            case SHRINK_PADDLE:
-                paddle.resetSize();
-                break;
-
-            case SPEED_UP_BALL:
-            case SPEED_DOWN_BALL:
-                balls.forEach(Ball::resetSpeed);
-                break;
-
-            default:
-                break;
+    /**
+     * @return the latest world state for rendering; call from the FX thread. Without the
+     *         simulation thread the snapshot is captured right here.
+     */
+    public WorldSnapshot acquireSnapshot() {
+        if (simulationThread == null) {
+            drainCommands();
+            publishSnapshot(Constants.FIXED_TIMESTEP);
         }
+        visibleSnapshot = snapshots.acquire();
+        return visibleSnapshot;
     }
 
-    private boolean isLevelComplete() {
-        if (currentLevel != null) {
-            return currentLevel.isCompleted();
-        }
-
-        for (Brick brick : bricks) {
-            if (!brick.isDestroyed() && brick.getType() != BrickType.UNBREAKABLE) {
-                return false;
-            }
-        }
-        return true;
+    public void startGame() {
+        execute(this::doStartGame);
     }
 
-    public void startGame() {
-        currentState = GameState.PLAYING;
-        scoreManager.reset();
-        levelManager.restartGame();
-        initializeGame();
-
-        SoundManager sm = SoundManager.getInstance();
-        sm.stopAll();
-        sm.playSound("music_stage_start");
+    private void doStartGame() {
+        engine.startGame();
+
+        audio(() -> {
+            SoundManager sm = SoundManager.getInstance();
+            sm.stopAll();
+            sm.playSound(SoundId.MUSIC_STAGE_START);
+        });
         scheduleStageStartStop();
     }
 
     public void pauseGame() {
-        if (currentState == GameState.PLAYING) currentState = GameState.PAUSED;
-        else if (currentState == GameState.PAUSED) currentState = GameState.PLAYING;
+        execute(engine::pauseGame);
     }
 
     public void nextLevel() {
-        boolean hasNextLevel = levelManager.nextLevel();
-
-        if (hasNextLevel) {
-            scoreManager.nextLevel();
-            currentLevel = levelManager.getCurrentLevel();
-            resetLevel();
-            currentState = GameState.PLAYING;
+        execute(this::doNextLevel);
+    }
 
-            SoundManager sm = SoundManager.getInstance();
-            sm.playSound("music_stage_start");
+    private void doNextLevel() {
+        if (engine.nextLevel()) {
+            audio(() -> SoundManager.getInstance().playSound(SoundId.MUSIC_STAGE_START));
             scheduleStageStartStop();
         } else {
-            currentState = GameState.GAME_OVER;
-            System.out.println("Congratulations! You completed all levels!");
-
-            SoundManager sm = SoundManager.getInstance();
-            sm.stopAll();
-            sm.playSound("music_title");
+            audio(() -> {
+                SoundManager sm = SoundManager.getInstance();
+                sm.stopAll();
+                sm.playSound(SoundId.MUSIC_TITLE);
+            });
         }
     }
 
-    private void resetLevel() {
-        if (levelManager != null) {
-            currentLevel = levelManager.getCurrentLevel();
-        }
-
-        paddle.reset();
-        paddle.setMovingLeft(false);
-        paddle.setMovingRight(false);
-
-        balls.clear();
-        Ball newBall = new Ball(paddle);
-        if (currentLevel != null) {
-            newBall.setBaseSpeed(currentLevel.getBallSpeed());
-        }
-        balls.add(newBall);
-
-        powerUps.clear();
-        activePowerUps.clear();
-
-        if (currentLevel != null) {
-            currentLevel.reset();
-            bricks.clear();
-            bricks.addAll(currentLevel.getBricks());
-            System.out.println("Reset level: " + currentLevel.getLevelName());
-            scoreManager.setLives(currentLevel.getInitialLives());
-        } else {
-            loadCurrentLevel();
-        }
+    public void launchBall() {
+        execute(engine::launchBall);
     }
 
-    private void resetBall() {
-        balls.clear();
-        balls.add(new Ball(paddle));
+    /** Paddle input; goes through the command queue like every other engine mutation. */
+    public void setPaddleMovingLeft(boolean moving) {
+        execute(() -> engine.getPaddle().setMovingLeft(moving));
     }
 
-    public void launchBall() {
-        for (Ball ball : balls) {
-            if (ball.isStuck()) ball.launch();
-        }
+    public void setPaddleMovingRight(boolean moving) {
+        execute(() -> engine.getPaddle().setMovingRight(moving));
     }
 
     public void selectLevel(int levelNumber) {
-        if (levelManager.selectLevel(levelNumber)) {
-            // ⚠️ CRITICAL: Cleanup trước khi load level mới
-            cleanup();
-
-            currentLevel = levelManager.getCurrentLevel();
-            resetLevel();
-            currentState = GameState.PLAYING;
-            System.out.println("Selected Level " + currentLevel.getLevelNumber() + ": " + currentLevel.getLevelName());
+        execute(() -> doSelectLevel(levelNumber));
+    }
+
+    private void doSelectLevel(int levelNumber) {
+        if (engine.selectLevel(levelNumber)) {
+            // ⚠️ CRITICAL: Cleanup task và âm thanh của level cũ
+            cancelStageStartTask();
+            audio(() -> SoundManager.getInstance().stopAll());
+            Log.info("Selected Level " + engine.getCurrentLevel().getLevelNumber() + ": " + engine.getCurrentLevel().getLevelName());
         } else {
-            System.out.println("Cannot select level " + levelNumber + " (does not exist)");
+            Log.warn("Cannot select level " + levelNumber + " (does not exist)");
         }
     }
 
     public void showLevelSelection() {
+        execute(this::doShowLevelSelection);
+    }
+
+    private void doShowLevelSelection() {
         // ⚠️ CRITICAL: Cleanup TRƯỚC khi đổi state
-        cleanup();
+        doCleanup();
 
-        currentState = GameState.MENU;
-        SoundManager sm = SoundManager.getInstance();
-        sm.stopAll();
-        sm.playSound("music_title");
+        engine.setCurrentState(GameState.MENU);
+        audio(() -> {
+            SoundManager sm = SoundManager.getInstance();
+            sm.stopAll();
+            sm.playSound(SoundId.MUSIC_TITLE);
+        });
     }
 
     /**
@@ -426,10 +288,12 @@ public class GameManager {
 
         // ✅ Lưu reference để có thể cancel sau này
         stageStartTask = scheduler.schedule(() -> {
-            SoundManager sm = SoundManager.getInstance();
-            sm.stopSound("music_stage_start");
-            sm.startBackgroundAlternating();
-            sm.playSound("ambient_bg");
+            audio(() -> {
+                SoundManager sm = SoundManager.getInstance();
+                sm.stopSound(SoundId.MUSIC_STAGE_START);
+                sm.startBackgroundAlternating();
+                sm.playSound(SoundId.AMBIENT_BG);
+            });
 
             // ✅ Clear reference sau khi task hoàn thành
             stageStartTask = null;
@@ -442,7 +306,7 @@ public class GameManager {
     private void cancelStageStartTask() {
         if (stageStartTask != null && !stageStartTask.isDone()) {
             stageStartTask.cancel(false); // false = không interrupt nếu đang chạy
-            System.out.println("🔴 Cancelled pending stage start task");
+            Log.info("🔴 Cancelled pending stage start task");
         }
         stageStartTask = null;
     }
@@ -451,41 +315,39 @@ public class GameManager {
      * ✅ Cleanup khi thoát game hoặc về menu
      */
     public void cleanup() {
-        System.out.println("🧹 Starting cleanup...");
+        execute(this::doCleanup);
+    }
+
+    private void doCleanup() {
+        Log.info("🧹 Starting cleanup...");
 
         // ⚠️ CRITICAL: Cancel scheduled tasks TRƯỚC
         cancelStageStartTask();
 
-        // ⚠️ CRITICAL: Clear collections và null references
-        if (balls != null) {
-            balls.clear();
-            // balls = null; // Không null vì sẽ reuse
-        }
-        if (bricks != null) {
-            bricks.clear();
-        }
-        if (powerUps != null) {
-            powerUps.clear();
-        }
-        if (activePowerUps != null) {
-            activePowerUps.clear();
-        }
+        // ⚠️ CRITICAL: Clear collections
+        engine.clearEntities();
 
         // ⚠️ CRITICAL: Stop ALL sounds
-        try {
-            SoundManager.getInstance().stopAll();
-        } catch (Exception e) {
-            System.err.println("Error stopping sounds: " + e.getMessage());
-        }
+        audio(() -> {
+            try {
+                SoundManager.getInstance().stopAll();
+            } catch (Exception e) {
+                Log.warn("Error stopping sounds: " + e.getMessage());
+            }
+        });
 
-        System.out.println("🧹 GameManager cleaned up");
+        Log.info("🧹 GameManager cleaned up");
     }
 
     /**
      * ✅ Shutdown scheduler khi app đóng (gọi từ Application.stop())
      */
     public void shutdown() {
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
         cancelStageStartTask();
+        assets.shutdown();
 
         scheduler.shutdown();
         try {
@@ -497,24 +359,37 @@ public class GameManager {
             Thread.currentThread().interrupt();
         }
 
-        System.out.println("🛑 GameManager scheduler shutdown complete");
+        Log.info("🛑 GameManager scheduler shutdown complete");
     }
 
     // Getters
-    public GameState getCurrentState() { return currentState; }
-    public Paddle getPaddle() { return paddle; }
-    public List<Ball> getBalls() { return balls; }
-    public List<Brick> getBricks() { return bricks; }
-    public List<PowerUps> getPowerUps() { return powerUps; }
-    public ScoreManager getScoreManager() { return scoreManager; }
+    /** @return the headless simulation core driven by this manager. */
+    public GameEngine getEngine() { return engine; }
+    /**
+     * @return the state the player currently sees: with the simulation thread this is the
+     *         state of the last rendered snapshot, so FX-side input acts on what is on screen
+     */
+    public GameState getCurrentState() {
+        if (simulationThread != null && visibleSnapshot != null) {
+            return visibleSnapshot.getState();
+        }
+        return engine.getCurrentState();
+    }
+    public Paddle getPaddle() { return engine.getPaddle(); }
+    public List<Ball> getBalls() { return engine.getBalls(); }
+    public List<Brick> getBricks() { return engine.getBricks(); }
+    public List<PowerUps> getPowerUps() { return engine.getPowerUps(); }
+    public ScoreManager getScoreManager() { return engine.getScoreManager(); }
     public LevelManager getLevelManager() { return levelManager; }
-    public Level getCurrentLevel() { return currentLevel; }
+    public Level getCurrentLevel() { return engine.getCurrentLevel(); }
     public void setCurrentState(GameState gameState) {
-        // ⚠️ CRITICAL: Cleanup khi chuyển state
-        if (gameState == GameState.MENU && currentState != GameState.MENU) {
-            cleanup();
-        }
+        execute(() -> {
+            // ⚠️ CRITICAL: Cleanup khi chuyển state
+            if (gameState == GameState.MENU && engine.getCurrentState() != GameState.MENU) {
+                doCleanup();
+            }
 
-        this.currentState = gameState;
+            engine.setCurrentState(gameState);
+        });
     }
-}
\ No newline at end of file
+}
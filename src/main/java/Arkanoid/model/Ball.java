@@ -1,11 +1,6 @@
 package Arkanoid.model;
 
 import Arkanoid.util.Constants;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.RadialGradient;
-import javafx.scene.paint.CycleMethod;
-import javafx.scene.paint.Stop;
 
  /**
   * Player ball with smooth movement and wall collision handling.
@@ -63,53 +58,64 @@ import javafx.scene.paint.Stop;
         }
     }
 
-    @Override
-    /** Draws the ball with a radial gradient effect. */
-    public void render(GraphicsContext gc) {
-        // Create a radial gradient for a 3D effect
-        RadialGradient gradient = new RadialGradient(
-                0, 0, 0.3, 0.3, 0.5, true, CycleMethod.NO_CYCLE,
-                new Stop(0, Color.WHITE),
-                new Stop(1, Constants.BALL_COLOR)
-        );
-
-        gc.setFill(gradient);
-        gc.fillOval(x, y, radius * 2, radius * 2);
+    /**
+     * Moves the free ball by the given displacement in pixels, keeping the smoothed
+     * position in sync. Used by the swept collision resolver to advance between contacts.
+     */
+    public void translate(double dx, double dy) {
+        smoothX += dx;
+        smoothY += dy;
+        x = smoothX;
+        y = smoothY;
     }
 
-    /** Handles collisions with window bounds; bounces and clamps position. */
-    private void checkWallCollision() {
+    /**
+     * Handles collisions with window bounds; bounces and clamps position.
+     * @return true if the ball bounced off a wall (callers play the wall sound)
+     */
+    public boolean checkWallCollision() {
+        boolean bounced = false;
+
         // Left and right walls
         if (smoothX <= 0) {
             smoothX = 0;
             velocityX = Math.abs(velocityX);
-            Arkanoid.audio.SoundManager.getInstance().playSound("effect_wall");
+            bounced = true;
         }
         if (smoothX + radius * 2 >= Constants.WINDOW_WIDTH) {
             smoothX = Constants.WINDOW_WIDTH - radius * 2;
             velocityX = -Math.abs(velocityX);
-            Arkanoid.audio.SoundManager.getInstance().playSound("effect_wall");
+            bounced = true;
         }
 
         // Top wall
         if (smoothY <= 0) {
             smoothY = 0;
             velocityY = Math.abs(velocityY);
-            Arkanoid.audio.SoundManager.getInstance().playSound("effect_wall");
+            bounced = true;
         }
 
         x = smoothX;
         y = smoothY;
+        return bounced;
     }
 
     /**
      * Launches the ball from the paddle if currently stuck, with a random upward angle.
      */
     public void launch() {
+        // Launch at random angle upward
+        launch(-60 - Math.random() * 60);
+    }
+
+    /**
+     * Launches the ball from the paddle if currently stuck, at the given angle in degrees
+     * (-90 is straight up). Lets a seeded simulation stay deterministic.
+     */
+    public void launch(double angleDegrees) {
         if (stuck) {
             stuck = false;
-            // Launch at random angle upward
-            double angle = Math.toRadians(-60 - Math.random() * 60);
+            double angle = Math.toRadians(angleDegrees);
             velocityX = speed * Math.cos(angle);
             velocityY = speed * Math.sin(angle);
         }
@@ -124,6 +130,7 @@ import javafx.scene.paint.Stop;
         smoothY = y;
         velocityX = 0;
         velocityY = 0;
+        savePreviousPosition();
     }
 
     /** Inverts vertical velocity. */
@@ -1,6 +1,5 @@
 package Arkanoid.model;
 
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
 /**
@@ -8,11 +7,22 @@ import javafx.scene.paint.Color;
  * Hard bricks require multiple hits; unbreakable bricks cannot be destroyed.
  */
 public class Brick extends GameObject {
+    /** Notified once when a brick goes from intact to destroyed. */
+    public interface DestroyListener {
+        void onBrickDestroyed(Brick brick);
+    }
+
     private BrickType type;
     private int hitsRemaining;
     private Color color;
     private boolean destroyed;
     private boolean damaged; // show broken sprite for HARD after first hit
+
+    // Packed storage this brick is a view of (null when not stored)
+    BrickStore store;
+    int slot = -1;
+
+    private DestroyListener destroyListener;
     
     public Brick(double x, double y, double width, double height, BrickType type, Color color) {
         super(x, y, width, height);
@@ -35,31 +45,6 @@ public class Brick extends GameObject {
         // Bricks don't move
     }
     
-    @Override
-    public void render(GraphicsContext gc) {
-        if (destroyed) return;
-
-        // Default fallback if renderer image not used
-        gc.setFill(color);
-        gc.fillRoundRect(x + 1, y + 1, width - 2, height - 2, 5, 5);
-
-        // Highlight
-        gc.setFill(Color.rgb(255, 255, 255, 0.3));
-        gc.fillRoundRect(x + 1, y + 1, width - 2, height / 2, 5, 5);
-
-        // Border
-        gc.setStroke(Color.rgb(0, 0, 0, 0.5));
-        gc.setLineWidth(2);
-        gc.strokeRoundRect(x + 1, y + 1, width - 2, height - 2, 5, 5);
-
-        // Unbreakable indicator
-        if (type == BrickType.UNBREAKABLE) {
-            gc.setStroke(Color.YELLOW);
-            gc.setLineWidth(2);
-            gc.strokeLine(x + 5, y + height / 2, x + width - 5, y + height / 2);
-        }
-    }
-    
     /**
      * Applies a hit to this brick.
      * @return true if the brick was destroyed by this hit
@@ -72,7 +57,10 @@ public class Brick extends GameObject {
         hitsRemaining--;
         
         if (hitsRemaining <= 0) {
+            boolean wasDestroyed = destroyed;
             destroyed = true;
+            if (store != null) store.writeHitState(slot);
+            if (!wasDestroyed && destroyListener != null) destroyListener.onBrickDestroyed(this);
             return true;
         }
         
@@ -81,17 +69,32 @@ public class Brick extends GameObject {
             damaged = true;
             color = color.darker();
         }
+        if (store != null) store.writeHitState(slot);
         
         return false;
     }
     
+    /** Sets the listener told when this brick is destroyed (replaces any previous one). */
+    public void setDestroyListener(DestroyListener listener) {
+        this.destroyListener = listener;
+    }
+
     /** @return true if this brick has been destroyed. */
     public boolean isDestroyed() {
         return destroyed;
     }
 
+    /** @return slot in the owning {@link BrickStore}, or -1 when not stored. */
+    public int getSlot() { return slot; }
+
+    /** @return hits left before this brick breaks. */
+    public int getHitsRemaining() { return hitsRemaining; }
+
     /** @return true if the brick is damaged but not destroyed (used for HARD). */
     public boolean isDamaged() { return damaged; }
+
+    /** @return tint used when no sprite exists for this brick type. */
+    public Color getColor() { return color; }
     
     /** @return the brick type controlling durability and score. */
     public BrickType getType() {
@@ -113,6 +116,12 @@ public class Brick extends GameObject {
     // Expose position helpers for moving bricks
     public double getX() { return x; }
     public double getY() { return y; }
-    public void setX(double x) { this.x = x; }
-    public void setY(double y) { this.y = y; }
+    public void setX(double x) {
+        this.x = x;
+        if (store != null) store.writePosition(slot, x, this.y);
+    }
+    public void setY(double y) {
+        this.y = y;
+        if (store != null) store.writePosition(slot, this.x, y);
+    }
 }
\ No newline at end of file
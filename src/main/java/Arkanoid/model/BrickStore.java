@@ -0,0 +1,215 @@
+package Arkanoid.model;
+
+import javafx.scene.paint.Color;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Packed brick storage: one primitive array per field instead of a list of heap objects,
+ * so the per-frame loops (completion checks, broadphase rebuild, rendering) walk contiguous
+ * memory. Ticking moving bricks is the level's job, see {@link Arkanoid.level.AbstractLevel#getActiveEntities()}.
+ * {@link Brick} objects are kept as views for the object API; their position and hit
+ * state is written through to the arrays by {@link Brick#setX}, {@link Brick#setY} and
+ * {@link Brick#hit()}.
+ * Changes to static bricks are also recorded in a ring of dirty regions numbered by a
+ * running sequence, so a cached brick layer only has to repaint what changed since the
+ * sequence it last saw; {@link #getLayoutVersion()} changes when the whole layout does.
+ */
+public class BrickStore {
+    public static final byte FLAG_MOVING = 1;
+    public static final byte FLAG_DAMAGED = 2;
+    public static final byte FLAG_DESTROYED = 4;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final BrickType[] TYPES = BrickType.values();
+    /** Number of dirty regions kept; a consumer further behind must repaint everything. */
+    public static final int DIRTY_RING_SIZE = 32;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] w = new double[INITIAL_CAPACITY];
+    private double[] h = new double[INITIAL_CAPACITY];
+    private int[] hitsRemaining = new int[INITIAL_CAPACITY];
+    private byte[] typeOrdinal = new byte[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private Color[] colors = new Color[INITIAL_CAPACITY];
+    private Brick[] views = new Brick[INITIAL_CAPACITY];
+    private int size;
+
+    // Ring of changed static-brick rects (x, y, w, h); entry seq lives at (seq % size) * 4
+    private final double[] dirtyRing = new double[DIRTY_RING_SIZE * 4];
+    private long dirtySeq;
+    private long layoutVersion = 1;
+
+    private final List<Brick> listView = new AbstractList<>() {
+        @Override
+        public Brick get(int index) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+            return views[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    };
+
+    /** Appends a brick; a brick can live in only one store at a time. */
+    public void add(Brick brick) {
+        if (brick.store != null) {
+            throw new IllegalStateException("Brick already belongs to a store");
+        }
+        ensureCapacity(size + 1);
+        int slot = size++;
+        views[slot] = brick;
+        brick.store = this;
+        brick.slot = slot;
+        flags[slot] = brick instanceof MovingBrick ? FLAG_MOVING : 0;
+        writeAll(slot);
+        layoutVersion++;
+    }
+
+    /** Replaces the contents with the given bricks, in order. */
+    public void rebuild(List<Brick> bricks) {
+        clear();
+        ensureCapacity(bricks.size());
+        for (int i = 0; i < bricks.size(); i++) {
+            add(bricks.get(i));
+        }
+    }
+
+    /**
+     * Removes a brick in O(1) using the slot stored on it: the last brick is moved into
+     * the freed slot. Slot order is therefore not insertion order; the broadphase grid
+     * holds brick references, not slots, so it is unaffected.
+     * @return false if the brick is not in this store
+     */
+    public boolean remove(Brick brick) {
+        if (brick.store != this) return false;
+        int slot = brick.slot;
+        // A destroyed brick was already queued by writeHitState(); only live removals repaint here
+        if ((flags[slot] & FLAG_DESTROYED) == 0) markDirty(slot);
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            w[slot] = w[last];
+            h[slot] = h[last];
+            hitsRemaining[slot] = hitsRemaining[last];
+            typeOrdinal[slot] = typeOrdinal[last];
+            flags[slot] = flags[last];
+            colors[slot] = colors[last];
+            views[slot] = views[last];
+            views[slot].slot = slot;
+        }
+        views[last] = null;
+        colors[last] = null;
+        detach(brick);
+        return true;
+    }
+
+    /** Removes every brick. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            detach(views[i]);
+            views[i] = null;
+            colors[i] = null;
+        }
+        size = 0;
+        layoutVersion++;
+    }
+
+    private void detach(Brick brick) {
+        brick.store = null;
+        brick.slot = -1;
+    }
+
+    private void markDirty(int slot) {
+        if ((flags[slot] & FLAG_MOVING) != 0) return;
+        int i = (int) (dirtySeq % DIRTY_RING_SIZE) * 4;
+        dirtyRing[i] = x[slot];
+        dirtyRing[i + 1] = y[slot];
+        dirtyRing[i + 2] = w[slot];
+        dirtyRing[i + 3] = h[slot];
+        dirtySeq++;
+    }
+
+    /** @return changes whenever bricks are added or the store is cleared/rebuilt. */
+    public long getLayoutVersion() { return layoutVersion; }
+
+    /** @return number of dirty regions ever recorded; the newest is at {@code getDirtySeq() - 1}. */
+    public long getDirtySeq() { return dirtySeq; }
+
+    /**
+     * Copies the dirty ring (DIRTY_RING_SIZE entries of x, y, w, h) into dest.
+     * Entry for sequence s starts at {@code (s % DIRTY_RING_SIZE) * 4}.
+     */
+    public void copyDirtyRing(double[] dest) {
+        System.arraycopy(dirtyRing, 0, dest, 0, dirtyRing.length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= views.length) return;
+        int newCapacity = Math.max(capacity, views.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        w = Arrays.copyOf(w, newCapacity);
+        h = Arrays.copyOf(h, newCapacity);
+        hitsRemaining = Arrays.copyOf(hitsRemaining, newCapacity);
+        typeOrdinal = Arrays.copyOf(typeOrdinal, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        colors = Arrays.copyOf(colors, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    // Write-through hooks called by Brick
+
+    void writeAll(int slot) {
+        Brick brick = views[slot];
+        x[slot] = brick.getX();
+        y[slot] = brick.getY();
+        w[slot] = brick.getWidth();
+        h[slot] = brick.getHeight();
+        typeOrdinal[slot] = (byte) brick.getType().ordinal();
+        writeHitState(slot);
+    }
+
+    void writePosition(int slot, double bx, double by) {
+        x[slot] = bx;
+        y[slot] = by;
+    }
+
+    void writeHitState(int slot) {
+        Brick brick = views[slot];
+        hitsRemaining[slot] = brick.getHitsRemaining();
+        colors[slot] = brick.getColor();
+        byte f = (byte) (flags[slot] & FLAG_MOVING);
+        if (brick.isDamaged()) f |= FLAG_DAMAGED;
+        if (brick.isDestroyed()) f |= FLAG_DESTROYED;
+        if (f != flags[slot]) markDirty(slot);
+        flags[slot] = f;
+    }
+
+    // Accessors
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public double getX(int slot) { return x[slot]; }
+    public double getY(int slot) { return y[slot]; }
+    public double getWidth(int slot) { return w[slot]; }
+    public double getHeight(int slot) { return h[slot]; }
+    public int getHitsRemaining(int slot) { return hitsRemaining[slot]; }
+    public BrickType getType(int slot) { return TYPES[typeOrdinal[slot]]; }
+    public int getTypeOrdinal(int slot) { return typeOrdinal[slot]; }
+    public boolean hasFlag(int slot, byte flag) { return (flags[slot] & flag) != 0; }
+    public byte getFlags(int slot) { return flags[slot]; }
+    public Color getColor(int slot) { return colors[slot]; }
+
+    /** @return the brick view stored in the given slot. */
+    public Brick getBrick(int slot) { return views[slot]; }
+
+    /** @return read-only list view over the brick objects, in slot order. */
+    public List<Brick> asList() { return listView; }
+}
@@ -1,11 +1,9 @@
 package Arkanoid.model;
 
-import javafx.geometry.Bounds;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.shape.Rectangle;
-
 /**
- * Base drawable object with position and size used by all in-game entities.
+ * Base object with position and size used by all in-game entities.
+ * Pure simulation state: drawing lives in {@link Arkanoid.renderer.Renderer}, so the model
+ * runs without a JavaFX toolkit.
  */
 public abstract class GameObject {
     protected double x;
@@ -28,20 +26,34 @@ public abstract class GameObject {
      * Updates the object using the provided timestep in seconds.
      */
     public abstract void update(double deltaTime);
-    /**
-     * Renders the object to the given graphics context.
-     */
-    public abstract void render(GraphicsContext gc);
 
     /**
      * Checks whether this object overlaps the given object by comparing bounds.
+     * Allocation-free; edges that touch count as overlapping, like {@link javafx.geometry.Bounds#intersects}.
      */
     public boolean intersects(GameObject other) {
-        return this.getBounds().intersects(other.getBounds());
+        return overlaps(x, y, width, height, other.x, other.y, other.width, other.height);
+    }
+
+    /**
+     * Checks whether this object overlaps the given rectangle.
+     */
+    public boolean intersects(double otherX, double otherY, double otherWidth, double otherHeight) {
+        return overlaps(x, y, width, height, otherX, otherY, otherWidth, otherHeight);
+    }
+
+    /**
+     * Primitive AABB overlap test on raw x/y/width/height values; touching edges overlap.
+     */
+    public static boolean overlaps(double ax, double ay, double aw, double ah,
+                                   double bx, double by, double bw, double bh) {
+        return bx <= ax + aw && bx + bw >= ax
+                && by <= ay + ah && by + bh >= ay;
     }
 
     /**
-     * Returns this object's axis-aligned bounding box for collision checks.
+     * Returns this object's axis-aligned bounding box. Allocates; collision code should use
+     * {@link #intersects(GameObject)} or {@link #overlaps} instead.
      */
     public javafx.geometry.BoundingBox getBounds() {
         return new javafx.geometry.BoundingBox(x, y, width, height);
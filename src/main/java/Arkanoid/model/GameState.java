@@ -4,6 +4,7 @@ package Arkanoid.model;
  * High-level game states used to control input handling and rendering.
  */
 public enum GameState {
+    LOADING, // startup assets still loading; no input
     MENU,
     PLAYING,
     PAUSED,
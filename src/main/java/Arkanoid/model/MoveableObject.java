@@ -7,12 +7,39 @@ public abstract class MoveableObject extends GameObject {
     protected double velocityX;
     protected double velocityY;
     protected double speed;
+    // Position at the start of the current simulation step, for render interpolation
+    protected double prevX;
+    protected double prevY;
 
     public MoveableObject(double x, double y, double width, double height, double speed) {
         super(x, y, width, height);
         this.speed = speed;
         this.velocityX = 0;
         this.velocityY = 0;
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /** Records the current position as the previous state before a simulation step. */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    /**
+     * X position blended between the previous and current simulation step.
+     * @param alpha 0 = previous state, 1 = current state
+     */
+    public double getRenderX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /**
+     * Y position blended between the previous and current simulation step.
+     * @param alpha 0 = previous state, 1 = current state
+     */
+    public double getRenderY(double alpha) {
+        return prevY + (y - prevY) * alpha;
     }
 
     public void move() {
@@ -6,7 +6,7 @@ import javafx.scene.paint.Color;
  * A brick that moves horizontally or vertically within a fixed range around its origin.
  * Motion is simple oscillation using a direction flag that flips when range is exceeded.
  */
-public class MovingBrick extends Brick {
+public class MovingBrick extends Brick implements Tickable {
     public enum Axis { HORIZONTAL, VERTICAL }
 
     private final Axis axis;
@@ -15,6 +15,7 @@ public class MovingBrick extends Brick {
     private final double speed; // pixels per second
     private final double range; // max displacement from origin
     private double dir = 1.0;   // +1 or -1
+    private int activeIndex = -1;
 
     public MovingBrick(double x, double y, double width, double height,
                        BrickType type, Color color,
@@ -58,4 +59,10 @@ public class MovingBrick extends Brick {
     public void update() {
         // no-op; dt-based update is preferred
     }
+
+    @Override
+    public int getActiveIndex() { return activeIndex; }
+
+    @Override
+    public void setActiveIndex(int index) { this.activeIndex = index; }
 }
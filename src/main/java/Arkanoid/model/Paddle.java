@@ -1,8 +1,6 @@
 package Arkanoid.model;
 
 import Arkanoid.util.Constants;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 
 /**
  * Player-controlled paddle. Supports smooth acceleration and dynamic width via power-ups.
@@ -50,8 +48,9 @@ public class Paddle extends MoveableObject {
             targetVelocityX = speed;
         }
 
-        // Smooth acceleration/deceleration
-        velocityX += (targetVelocityX - velocityX) * 0.3;
+        // Smooth acceleration/deceleration: 30% per 60 Hz tick, scaled to the actual timestep
+        double blend = 1.0 - Math.pow(0.7, deltaTime * 60.0);
+        velocityX += (targetVelocityX - velocityX) * blend;
 
         // Update smooth position with delta time
         double speedMultiplier = deltaTime * 60.0; // 60 FPS equivalent
@@ -71,19 +70,6 @@ public class Paddle extends MoveableObject {
         x = smoothX;
     }
 
-    /**
-     * Renders the paddle with a subtle highlight for depth.
-     */
-    @Override
-    public void render(GraphicsContext gc) {
-        gc.setFill(Constants.PADDLE_COLOR);
-        gc.fillRoundRect(x, y, width, height, 5, 5);
-
-        // Add a highlight effect
-        gc.setFill(Color.rgb(255, 255, 255, 0.3));
-        gc.fillRoundRect(x, y, width, height / 2, 5, 5);
-    }
-
     /** Increases paddle width up to 40% of window width. */
     public void expand() {
         width = Math.min(width * 1.5, Constants.WINDOW_WIDTH * 0.4);
@@ -107,6 +93,7 @@ public class Paddle extends MoveableObject {
         y = Constants.PADDLE_Y;
         smoothX = x;
         velocityX = 0;
+        savePreviousPosition();
     }
 
     // Getters and setters
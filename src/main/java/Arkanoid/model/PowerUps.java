@@ -1,12 +1,9 @@
 package Arkanoid.model;
 
 import Arkanoid.util.Constants;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 
 /**
- * Falling power-up pickup with a short label per type.
+ * Falling power-up pickup.
  * Applies effects when collected by the paddle and tracks remaining duration for timed effects.
  */
 public class PowerUps extends MoveableObject {
@@ -36,64 +33,6 @@ public class PowerUps extends MoveableObject {
         }
     }
 
-    @Override
-    public void render(GraphicsContext gc) {
-        if (collected) return;
-
-        // Set color based on type
-        gc.setFill(getColor());
-        gc.fillOval(x, y, width, height);
-
-        // Add border
-        gc.setStroke(Color.WHITE);
-        gc.setLineWidth(2);
-        gc.strokeOval(x, y, width, height);
-
-        // Draw icon/letter
-        gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 12));
-        String letter = getIconLetter();
-        gc.fillText(letter, x + width / 2 - 4, y + height / 2 + 4);
-    }
-
-    private Color getColor() {
-        switch (type) {
-            case EXPAND_PADDLE:
-                return Constants.POWERUP_EXPAND_COLOR;
-            case SHRINK_PADDLE:
-                return Constants.POWERUP_SHRINK_COLOR;
-            case SPEED_UP_BALL:
-                return Constants.POWERUP_SPEED_UP_COLOR;
-            case SPEED_DOWN_BALL:
-                return Constants.POWERUP_SPEED_DOWN_COLOR;
-            case EXTRA_LIFE:
-                return Constants.POWERUP_EXTRA_LIFE_COLOR;
-            case MULTI_BALL:
-                return Constants.POWERUP_MULTI_BALL_COLOR;
-            default:
-                return Color.WHITE;
-        }
-    }
-
-    private String getIconLetter() {
-        switch (type) {
-            case EXPAND_PADDLE:
-                return "E";
-            case SHRINK_PADDLE:
-                return "S";
-            case SPEED_UP_BALL:
-                return "+";
-            case SPEED_DOWN_BALL:
-                return "-";
-            case EXTRA_LIFE:
-                return "L";
-            case MULTI_BALL:
-                return "M";
-            default:
-                return "?";
-        }
-    }
-
     /** @return true if the power-up has fallen below the bottom of the screen. */
     public boolean isOutOfBounds() {
         return y > Constants.WINDOW_HEIGHT;
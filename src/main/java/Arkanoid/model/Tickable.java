@@ -0,0 +1,17 @@
+package Arkanoid.model;
+
+/**
+ * Entity with per-frame work, kept in an {@link Arkanoid.util.ActiveList} so the update
+ * loop only visits things that actually change. The list stores each entity's position
+ * in it via {@link #setActiveIndex(int)} to support O(1) removal.
+ */
+public interface Tickable {
+    /** Advances this entity by one step. */
+    void update(double deltaTime);
+
+    /** @return position in the owning active list, or -1 when not registered. */
+    int getActiveIndex();
+
+    /** Set by the owning active list; do not call directly. */
+    void setActiveIndex(int index);
+}
@@ -0,0 +1,114 @@
+package Arkanoid.renderer;
+
+import Arkanoid.engine.WorldSnapshot;
+import Arkanoid.model.BrickStore;
+import Arkanoid.util.Constants;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Offscreen layer holding the static bricks of the current level.
+ * Painted in full when the layout changes, then only the dirty regions recorded by
+ * {@link BrickStore} since the last painted sequence are repainted; each frame the layer is
+ * blitted with one drawImage. Moving bricks are not part of the layer and are drawn on top
+ * by the caller.
+ */
+class BrickLayer {
+    // Covers antialiased edges of bricks drawn at fractional (moving) positions
+    private static final double DIRTY_MARGIN = 2;
+
+    private final SpriteCache sprites;
+    private final Canvas canvas;
+    private final GraphicsContext layerGc;
+    private final WritableImage image;
+    private final SnapshotParameters fullParams;
+    private final SnapshotParameters regionParams;
+
+    private WorldSnapshot world;      // snapshot being painted from
+    private long paintedLayoutVersion; // 0 = nothing painted yet
+    private long paintedDirtySeq;
+
+    BrickLayer(SpriteCache sprites) {
+        this.sprites = sprites;
+        this.canvas = new Canvas(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        this.layerGc = canvas.getGraphicsContext2D();
+        this.image = new WritableImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        this.fullParams = new SnapshotParameters();
+        fullParams.setFill(Color.TRANSPARENT);
+        this.regionParams = new SnapshotParameters();
+        regionParams.setFill(Color.TRANSPARENT);
+    }
+
+    /** Brings the layer up to date with the snapshot and draws it onto gc. */
+    void render(GraphicsContext gc, WorldSnapshot snapshot) {
+        world = snapshot;
+        long dirtySeq = snapshot.getBrickDirtySeq();
+        if (snapshot.getBrickLayoutVersion() != paintedLayoutVersion
+                || dirtySeq - paintedDirtySeq > BrickStore.DIRTY_RING_SIZE) {
+            repaintAll();
+        } else {
+            double[] ring = snapshot.getBrickDirtyRing();
+            for (long seq = paintedDirtySeq; seq < dirtySeq; seq++) {
+                int j = (int) (seq % BrickStore.DIRTY_RING_SIZE) * 4;
+                repaintRegion(ring[j], ring[j + 1], ring[j + 2], ring[j + 3]);
+            }
+        }
+        paintedLayoutVersion = snapshot.getBrickLayoutVersion();
+        paintedDirtySeq = dirtySeq;
+        gc.drawImage(image, 0, 0);
+    }
+
+    private void repaintAll() {
+        layerGc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < world.getBrickCount(); i++) {
+            if (isStatic(world, i)) drawBrick(layerGc, world, i);
+        }
+        canvas.snapshot(fullParams, image);
+    }
+
+    /** Repaints the static bricks overlapping one changed rect and copies just that patch. */
+    private void repaintRegion(double x, double y, double w, double h) {
+        int rx = (int) Math.max(0, Math.floor(x - DIRTY_MARGIN));
+        int ry = (int) Math.max(0, Math.floor(y - DIRTY_MARGIN));
+        int rw = (int) Math.min(image.getWidth() - rx, Math.ceil(w + 2 * DIRTY_MARGIN) + 1);
+        int rh = (int) Math.min(image.getHeight() - ry, Math.ceil(h + 2 * DIRTY_MARGIN) + 1);
+        if (rw <= 0 || rh <= 0) return;
+
+        layerGc.save();
+        layerGc.clearRect(rx, ry, rw, rh);
+        layerGc.beginPath();
+        layerGc.rect(rx, ry, rw, rh);
+        layerGc.clip();
+        for (int i = 0; i < world.getBrickCount(); i++) {
+            if (!isStatic(world, i)) continue;
+            if (world.getBrickX(i) > rx + rw || world.getBrickX(i) + world.getBrickWidth(i) < rx
+                    || world.getBrickY(i) > ry + rh || world.getBrickY(i) + world.getBrickHeight(i) < ry) continue;
+            drawBrick(layerGc, world, i);
+        }
+        layerGc.restore();
+
+        regionParams.setViewport(new Rectangle2D(rx, ry, rw, rh));
+        WritableImage patch = canvas.snapshot(regionParams, null);
+        image.getPixelWriter().setPixels(rx, ry, rw, rh, patch.getPixelReader(), 0, 0);
+    }
+
+    /** Forces a full repaint on the next render, e.g. after the brick sprites changed. */
+    void invalidate() {
+        paintedLayoutVersion = 0;
+    }
+
+    private static boolean isStatic(WorldSnapshot world, int i) {
+        return !world.hasBrickFlag(i, BrickStore.FLAG_DESTROYED) && !world.hasBrickFlag(i, BrickStore.FLAG_MOVING);
+    }
+
+    /** Draws one brick of the snapshot using its atlas sprite. */
+    void drawBrick(GraphicsContext target, WorldSnapshot world, int i) {
+        Sprite sprite = sprites.brick(world.getBrickType(i),
+                world.hasBrickFlag(i, BrickStore.FLAG_DAMAGED), world.getBrickColor(i));
+        sprite.draw(target, world.getBrickX(i), world.getBrickY(i), world.getBrickWidth(i), world.getBrickHeight(i));
+    }
+}
@@ -0,0 +1,78 @@
+package Arkanoid.renderer;
+
+import Arkanoid.util.Constants;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Objects;
+
+/**
+ * Score / level / lives strip at the top of the playfield, kept as a pre-rendered image.
+ * The text is laid out again only when one of the shown values changes; otherwise a
+ * frame costs one drawImage and no string building.
+ */
+class HudLayer {
+    static final int HEIGHT = 36;
+    private static final double BASELINE = 25;
+
+    private final Font font = Font.font("Arial", Constants.UI_FONT_SIZE);
+    private final Canvas canvas = new Canvas(Constants.WINDOW_WIDTH, HEIGHT);
+    private final WritableImage image = new WritableImage(Constants.WINDOW_WIDTH, HEIGHT);
+    private final SnapshotParameters params = new SnapshotParameters();
+
+    // Values the current image shows
+    private boolean valid;
+    private int score;
+    private int lives;
+    private String levelName;
+    private int levelNumber;
+    private int totalLevels;
+
+    HudLayer() {
+        params.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Draws the HUD, re-rendering the text first if any value differs from the cached image.
+     * @param levelName null when there is no level (the centre label is omitted)
+     */
+    void render(GraphicsContext gc, int score, int lives, String levelName, int levelNumber, int totalLevels) {
+        if (!valid || score != this.score || lives != this.lives || levelNumber != this.levelNumber
+                || totalLevels != this.totalLevels || !Objects.equals(levelName, this.levelName)) {
+            this.score = score;
+            this.lives = lives;
+            this.levelName = levelName;
+            this.levelNumber = levelNumber;
+            this.totalLevels = totalLevels;
+            redraw();
+            valid = true;
+        }
+        gc.drawImage(image, 0, 0);
+    }
+
+    private void redraw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        g.setFill(Color.WHITE);
+        g.setFont(font);
+
+        g.setTextAlign(TextAlignment.LEFT);
+        g.fillText("Score: " + score, 10, BASELINE);
+
+        if (levelName != null) {
+            g.setTextAlign(TextAlignment.CENTER);
+            g.fillText(levelName + " (" + levelNumber + "/" + totalLevels + ")",
+                    Constants.WINDOW_WIDTH / 2.0, BASELINE);
+        }
+
+        g.setTextAlign(TextAlignment.RIGHT);
+        g.fillText("Lives: " + lives, Constants.WINDOW_WIDTH - 10, BASELINE);
+
+        canvas.snapshot(params, image);
+    }
+}
@@ -0,0 +1,77 @@
+package Arkanoid.renderer;
+
+import Arkanoid.util.FrameMetrics;
+import Arkanoid.util.FrameMetrics.Metric;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Locale;
+
+/**
+ * Performance panel (F3): p50 / p99 / max of every {@link FrameMetrics} metric over the
+ * rolling window. The numbers are recomputed and the text re-rendered only every
+ * {@link #REFRESH_FRAMES} frames, so the panel itself barely shows up in the render time.
+ */
+class MetricsOverlay {
+    private static final int REFRESH_FRAMES = 30;
+    private static final double LINE_HEIGHT = 16;
+    private static final double WIDTH = 300;
+    private static final Metric[] METRICS = Metric.values();
+
+    private final FrameMetrics metrics;
+    private final Font font = Font.font("Monospaced", 12);
+    private final Canvas canvas = new Canvas(WIDTH, LINE_HEIGHT * (METRICS.length + 1) + 8);
+    private final WritableImage image = new WritableImage((int) canvas.getWidth(), (int) canvas.getHeight());
+    private final SnapshotParameters params = new SnapshotParameters();
+
+    private int framesUntilRefresh;
+
+    MetricsOverlay(FrameMetrics metrics) {
+        this.metrics = metrics;
+        params.setFill(Color.TRANSPARENT);
+    }
+
+    /** Draws the panel in the bottom-left corner, refreshing its numbers when due. */
+    void render(GraphicsContext gc) {
+        if (framesUntilRefresh-- <= 0) {
+            redraw();
+            framesUntilRefresh = REFRESH_FRAMES;
+        }
+        gc.drawImage(image, 8, gc.getCanvas().getHeight() - canvas.getHeight() - 8);
+    }
+
+    private void redraw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        g.setFill(Color.rgb(0, 0, 0, 0.6));
+        g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        g.setFont(font);
+        g.setTextAlign(TextAlignment.LEFT);
+        g.setFill(Color.LIGHTGREEN);
+        g.fillText(String.format(Locale.ROOT, "%-14s %7s %7s %7s", "", "p50", "p99", "max"), 6, LINE_HEIGHT);
+        g.setFill(Color.WHITE);
+        for (int i = 0; i < METRICS.length; i++) {
+            Metric metric = METRICS[i];
+            String unit = metric.isTime() ? " ms" : "";
+            g.fillText(String.format(Locale.ROOT, "%-14s %7.2f %7.2f %7.2f",
+                    metric.getLabel() + unit,
+                    FrameMetrics.toDisplay(metric, metrics.percentile(metric, 50)),
+                    FrameMetrics.toDisplay(metric, metrics.percentile(metric, 99)),
+                    FrameMetrics.toDisplay(metric, metrics.max(metric))),
+                    6, LINE_HEIGHT * (i + 2));
+        }
+
+        canvas.snapshot(params, image);
+    }
+
+    /** Forces a refresh on the next frame, e.g. right after the panel is shown. */
+    void invalidate() {
+        framesUntilRefresh = 0;
+    }
+}
@@ -0,0 +1,50 @@
+package Arkanoid.renderer;
+
+import Arkanoid.model.GameState;
+import Arkanoid.util.Constants;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Cached frame for the non-playing screens (menu, pause, game over, level complete).
+ * The simulation is frozen in those states, so the first frame is drawn normally —
+ * gameplay underneath, then the overlay text — and captured; later frames are a single
+ * blit. The capture is redone when the state or a number shown on the screen changes.
+ */
+class OverlayCache {
+    private final WritableImage frame = new WritableImage(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+    private final SnapshotParameters params = new SnapshotParameters();
+
+    private boolean valid;
+    private GameState state;
+    private int score;
+    private int highScore;
+    private int levelNumber;
+
+    /** @return true if the captured frame shows exactly this screen. */
+    boolean matches(GameState state, int score, int highScore, int levelNumber) {
+        return valid && state == this.state && score == this.score
+                && highScore == this.highScore && levelNumber == this.levelNumber;
+    }
+
+    /** Captures what was just drawn on the canvas for the given screen. */
+    void capture(Canvas canvas, GameState state, int score, int highScore, int levelNumber) {
+        canvas.snapshot(params, frame);
+        this.state = state;
+        this.score = score;
+        this.highScore = highScore;
+        this.levelNumber = levelNumber;
+        this.valid = true;
+    }
+
+    void draw(GraphicsContext gc) {
+        gc.drawImage(frame, 0, 0);
+    }
+
+    /** Drops the capture; called while gameplay is running so the next overlay re-freezes. */
+    void invalidate() {
+        valid = false;
+    }
+}
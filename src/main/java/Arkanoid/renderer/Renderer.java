@@ -1,10 +1,13 @@
 package Arkanoid.renderer;
 
-import Arkanoid.level.Level;
-import Arkanoid.manager.GameManager;
-import Arkanoid.manager.ScoreManager;
+import Arkanoid.engine.WorldSnapshot;
+import Arkanoid.jfr.ImageLoadEvent;
 import Arkanoid.model.*;
+import Arkanoid.util.AssetLoader;
 import Arkanoid.util.Constants;
+import Arkanoid.util.FrameMetrics;
+import Arkanoid.util.Log;
+import javafx.application.Platform;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.image.WritableImage;
@@ -17,9 +20,12 @@ import javafx.scene.canvas.Canvas;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Renders the entire game based on the current GameState.
+ * Draws {@link WorldSnapshot}s captured from the headless engine, so it never touches live
+ * entities and can run while the simulation thread steps; the model holds no drawing code.
  * OPTIMIZED: Pre-scaled backgrounds per level, cached resources, NO memory leaks.
  */
 public class Renderer {
@@ -34,41 +40,101 @@ public class Renderer {
     private static final Map<String, Image> cachedLevelBackgrounds = new HashMap<>();
     private static final Map<String, WritableImage> cachedScaledLevelBgs = new HashMap<>();
 
-    private final Map<String, Image> brickImages;
-    private final Image defaultBackgroundImage;
-    private final WritableImage defaultScaledBackground;
+    private final AssetLoader assets;
+    // ✅ All gameplay sprites packed into one atlas page, rasterized once
+    private final TextureAtlas atlas = new TextureAtlas();
+    private final SpriteCache sprites = new SpriteCache(atlas);
+    // ✅ Static bricks cached offscreen; repainted only where bricks changed
+    private final BrickLayer brickLayer;
+    // ✅ HUD text re-rendered only when score/lives/level change
+    private final HudLayer hud = new HudLayer();
+    // ✅ Menu/pause/game over/level complete: captured once, then one blit per frame
+    private final OverlayCache overlayCache = new OverlayCache();
+    // ✅ Render time is recorded here; the F3 panel is drawn on top of every screen
+    private final FrameMetrics metrics = FrameMetrics.getInstance();
+    private final MetricsOverlay metricsOverlay = new MetricsOverlay(metrics);
+    private boolean metricsShown;
+
+    // ✅ Fonts created once instead of Font.font(...) every frame
+    private static final Font FONT_60 = Font.font("Arial", 60);
+    private static final Font FONT_48 = Font.font("Arial", 48);
+    private static final Font FONT_30 = Font.font("Arial", 30);
+    private static final Font FONT_28 = Font.font("Arial", 28);
+    private static final Font FONT_26 = Font.font("Arial", 26);
+    private static final Font FONT_20 = Font.font("Arial", 20);
+    private static final Font FONT_16 = Font.font("Arial", 16);
+    private Image defaultBackgroundImage;
+    private WritableImage defaultScaledBackground;
 
     // ✅ Current level background (thay đổi theo level)
     private String currentBgPath = null;
     private WritableImage currentScaledBg = null;
 
-    public Renderer(GraphicsContext gc) {
+    /**
+     * @param assets loader the brick and background images are decoded on; until they
+     *               arrive bricks are drawn as tinted shapes and the background as a fill
+     */
+    public Renderer(GraphicsContext gc, AssetLoader assets) {
         this.gc = gc;
+        this.assets = assets;
+        this.brickLayer = new BrickLayer(sprites);
 
-        // ✅ Cache brick images
+        // ✅ Cache brick images: decoded in parallel, packed into the atlas on the FX thread
         if (cachedBrickImages == null) {
-            cachedBrickImages = new HashMap<>();
-            cachedBrickImages.put("NORMAL", loadImage("/images/bricks/brick_normal.png"));
-            cachedBrickImages.put("HARD", loadImage("/images/bricks/brick_hard.png"));
-            cachedBrickImages.put("UNBREAKABLE", loadImage("/images/bricks/brick_unbreakable.png"));
-            cachedBrickImages.put("BROKEN", loadImage("/images/bricks/brick_broken.png"));
-            System.out.println("✅ Brick images cached");
+            loadBrickImages();
+        } else {
+            installBrickImages(cachedBrickImages);
         }
-        this.brickImages = cachedBrickImages;
 
-        // ✅ Load default background chỉ 1 lần
+        // ✅ Load default background chỉ 1 lần; the menu waits for it
         if (cachedDefaultBackground == null) {
-            cachedDefaultBackground = loadImage("/images/level/space.png");
-            if (cachedDefaultBackground != null) {
-                cachedDefaultScaledBg = prescaleBackground(cachedDefaultBackground);
-                System.out.println("✅ Default background cached and pre-scaled");
-            }
+            assets.submitForMenu("space.png", () -> loadImage("/images/level/space.png"))
+                    .thenAccept(img -> Platform.runLater(() -> installDefaultBackground(img)));
+        } else {
+            installDefaultBackground(cachedDefaultBackground);
+        }
+    }
+
+    private void loadBrickImages() {
+        Map<String, CompletableFuture<Image>> loads = new HashMap<>();
+        loads.put("NORMAL", assets.submit("brick_normal.png", () -> loadImage("/images/bricks/brick_normal.png")));
+        loads.put("HARD", assets.submit("brick_hard.png", () -> loadImage("/images/bricks/brick_hard.png")));
+        loads.put("UNBREAKABLE", assets.submit("brick_unbreakable.png", () -> loadImage("/images/bricks/brick_unbreakable.png")));
+        loads.put("BROKEN", assets.submit("brick_broken.png", () -> loadImage("/images/bricks/brick_broken.png")));
+
+        CompletableFuture.allOf(loads.values().toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) ->
+                Platform.runLater(() -> {
+                    Map<String, Image> images = new HashMap<>();
+                    loads.forEach((type, load) -> images.put(type, load.isCompletedExceptionally() ? null : load.join()));
+                    cachedBrickImages = images;
+                    installBrickImages(images);
+                    Log.info("✅ Brick images cached");
+                }));
+    }
+
+    /** Packs the brick images into the atlas; FX thread only (rasterizes sprites). */
+    private void installBrickImages(Map<String, Image> images) {
+        sprites.preload(images);
+        // Bricks painted before the images arrived used tinted shapes
+        brickLayer.invalidate();
+    }
+
+    /** Pre-scales and shows the default background; FX thread only. */
+    private void installDefaultBackground(Image img) {
+        if (cachedDefaultBackground == null && img != null) {
+            cachedDefaultBackground = img;
+            cachedDefaultScaledBg = prescaleBackground(img);
+            Log.info("✅ Default background cached and pre-scaled");
         }
         this.defaultBackgroundImage = cachedDefaultBackground;
         this.defaultScaledBackground = cachedDefaultScaledBg;
 
         // ✅ Ban đầu dùng default background
-        this.currentScaledBg = cachedDefaultScaledBg;
+        if (currentBgPath == null) {
+            this.currentScaledBg = defaultScaledBackground;
+        }
+        // A menu captured without the background must be drawn again
+        overlayCache.invalidate();
     }
 
     /**
@@ -84,7 +150,7 @@ public class Renderer {
             // Kiểm tra xem ảnh đã đúng kích thước chưa
             if (Math.abs(original.getWidth() - targetWidth) < 1 &&
                     Math.abs(original.getHeight() - targetHeight) < 1) {
-                System.out.println("✅ Background đã đúng kích thước, không cần scale");
+                Log.info("✅ Background đã đúng kích thước, không cần scale");
                 return null; // Dùng ảnh gốc luôn
             }
 
@@ -97,21 +163,34 @@ public class Renderer {
             params.setFill(Color.TRANSPARENT);
             tempCanvas.snapshot(params, scaled);
 
-            System.out.println("✅ Background pre-scaled: " + (int)targetWidth + "x" + (int)targetHeight);
+            Log.info("✅ Background pre-scaled: " + (int)targetWidth + "x" + (int)targetHeight);
             return scaled;
 
         } catch (Exception e) {
-            System.err.println("⚠️ Không thể pre-scale background");
-            e.printStackTrace();
+            Log.error("⚠️ Không thể pre-scale background", e);
             return null;
         }
     }
 
     private Image loadImage(String path) {
+        ImageLoadEvent event = new ImageLoadEvent();
+        event.begin();
+        Image img = decodeImage(path);
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.success = img != null;
+            event.width = img != null ? (int) img.getWidth() : 0;
+            event.height = img != null ? (int) img.getHeight() : 0;
+            event.commit();
+        }
+        return img;
+    }
+
+    private Image decodeImage(String path) {
         try {
             InputStream stream = getClass().getResourceAsStream(path);
             if (stream == null) {
-                System.err.println("⚠️ Không tìm thấy ảnh: " + path);
+                Log.warn("⚠️ Không tìm thấy ảnh: " + path);
                 return null;
             }
 
@@ -119,27 +198,45 @@ public class Renderer {
             Image img = new Image(stream, 0, 0, true, false);
             stream.close(); // ✅ Đóng stream sau khi load
 
-            System.out.println("✅ Đã tải ảnh: " + path);
+            Log.info("✅ Đã tải ảnh: " + path);
             return img;
         } catch (Exception e) {
-            System.err.println("❌ Lỗi khi tải ảnh: " + path);
-            e.printStackTrace();
+            Log.error("❌ Lỗi khi tải ảnh: " + path, e);
             return null;
         }
     }
 
+    /**
+     * Renders the latest simulation state without interpolation.
+     */
+    public void render(WorldSnapshot world) {
+        render(world, 1.0);
+    }
+
     /**
      * ⚠️ CRITICAL: CHỈ load background khi thay đổi, KHÔNG mỗi frame!
+     * @param alpha interpolation factor between the previous and current simulation step
      */
-    public void render(GameManager gameManager) {
-        GameState state = gameManager.getCurrentState();
+    public void render(WorldSnapshot world, double alpha) {
+        long start = System.nanoTime();
+        renderFrame(world, alpha);
+        metrics.record(FrameMetrics.Metric.RENDER, System.nanoTime() - start);
+
+        if (metrics.isOverlayVisible()) {
+            if (!metricsShown) metricsOverlay.invalidate();
+            metricsOverlay.render(gc);
+        }
+        metricsShown = metrics.isOverlayVisible();
+    }
+
+    private void renderFrame(WorldSnapshot world, double alpha) {
+        GameState state = world.getState();
 
         // ⚠️ CRITICAL: Xác định background cần dùng
         String desiredBgPath = null;
-        Level currentLevel = gameManager.getCurrentLevel();
 
-        if (currentLevel != null && state == GameState.PLAYING) {
-            desiredBgPath = currentLevel.getBackgroundImage();
+        if (world.getLevelName() != null && state == GameState.PLAYING) {
+            desiredBgPath = world.getBackgroundPath();
         }
 
         // ⚠️ CRITICAL: CHỈ load nếu background thay đổi
@@ -147,23 +244,44 @@ public class Renderer {
             loadLevelBackground(desiredBgPath);
         }
 
-        drawBackground();
+        if (state == GameState.PLAYING) {
+            overlayCache.invalidate();
+            drawBackground();
+            renderGame(world, alpha);
+            return;
+        }
+
+        if (state == GameState.LOADING) {
+            // Progress changes every frame; nothing to cache
+            renderLoading();
+            return;
+        }
 
+        // ✅ Simulation is frozen outside PLAYING: reuse the captured screen if nothing shown changed
+        int levelNumber = world.getLevelNumber();
+        if (overlayCache.matches(state, world.getScore(), world.getHighScore(), levelNumber)) {
+            overlayCache.draw(gc);
+            return;
+        }
+
+        drawBackground();
         switch (state) {
             case MENU -> renderMenu();
-            case PLAYING, PAUSED -> {
-                renderGame(gameManager);
-                if (state == GameState.PAUSED) renderPauseOverlay();
+            case PAUSED -> {
+                renderGame(world, alpha);
+                renderPauseOverlay();
             }
             case GAME_OVER -> {
-                renderGame(gameManager);
-                renderGameOver(gameManager.getScoreManager());
+                renderGame(world, alpha);
+                renderGameOver(world);
             }
             case LEVEL_COMPLETE -> {
-                renderGame(gameManager);
-                renderLevelComplete(gameManager);
+                renderGame(world, alpha);
+                renderLevelComplete(world);
             }
         }
+        overlayCache.capture(gc.getCanvas(), state, world.getScore(),
+                world.getHighScore(), levelNumber);
     }
 
     /**
@@ -190,7 +308,7 @@ public class Renderer {
         if (cachedScaledLevelBgs.containsKey(backgroundPath)) {
             currentBgPath = backgroundPath;
             currentScaledBg = cachedScaledLevelBgs.get(backgroundPath);
-            System.out.println("✅ Using cached background: " + backgroundPath);
+            Log.debug("✅ Using cached background: " + backgroundPath);
             return;
         }
 
@@ -210,16 +328,15 @@ public class Renderer {
 
                 currentBgPath = backgroundPath;
                 currentScaledBg = scaledBg;
-                System.out.println("✅ Loaded and cached new background: " + backgroundPath);
+                Log.info("✅ Loaded and cached new background: " + backgroundPath);
             } else {
-                System.err.println("⚠️ Failed to load background, using default");
+                Log.warn("⚠️ Failed to load background, using default");
                 currentBgPath = null;
                 currentScaledBg = defaultScaledBackground;
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading level background: " + backgroundPath);
-            e.printStackTrace();
+            Log.error("❌ Error loading level background: " + backgroundPath, e);
             currentBgPath = null;
             currentScaledBg = defaultScaledBackground;
         }
@@ -256,134 +373,189 @@ public class Renderer {
         }
     }
 
-    private void renderGame(GameManager gameManager) {
-        for (Brick brick : gameManager.getBricks()) {
-            if (brick.isDestroyed()) continue; // do not draw destroyed bricks
-            String type = brick.getType().name();
-            Image img;
-            if (brick.getType() == BrickType.HARD && brick instanceof Brick) {
-                // Use broken sprite if HARD has been damaged
-                if (((Brick) brick).isDamaged()) {
-                    img = brickImages.get("BROKEN");
-                } else {
-                    img = brickImages.get("HARD");
-                }
-            } else {
-                img = brickImages.get(type);
-            }
-            if (img != null) {
-                gc.drawImage(img, brick.getX(), brick.getY(),
-                        brick.getWidth(), brick.getHeight());
-            } else {
-                brick.render(gc);
+    private void renderGame(WorldSnapshot world, double alpha) {
+        // Static bricks: one blit of the cached layer
+        brickLayer.render(gc, world);
+
+        // Moving bricks are not in the layer; draw them live on top
+        for (int i = 0; i < world.getBrickCount(); i++) {
+            if (world.hasBrickFlag(i, BrickStore.FLAG_MOVING) && !world.hasBrickFlag(i, BrickStore.FLAG_DESTROYED)) {
+                brickLayer.drawBrick(gc, world, i);
             }
         }
 
-        for (PowerUps powerUp : gameManager.getPowerUps()) {
-            powerUp.render(gc);
+        for (int i = 0; i < world.getPowerUpCount(); i++) {
+            renderPowerUp(world, i, alpha);
         }
 
-        gameManager.getPaddle().render(gc);
-        for (Ball ball : gameManager.getBalls()) {
-            ball.render(gc);
+        renderPaddle(world, alpha);
+        for (int i = 0; i < world.getBallCount(); i++) {
+            renderBall(world, i, alpha);
         }
 
-        renderUI(gameManager);
+        renderUI(world);
     }
 
-    private void renderUI(GameManager gameManager) {
-        ScoreManager scoreManager = gameManager.getScoreManager();
-        Level currentLevel = gameManager.getCurrentLevel();
+    /** Draws the cached gradient ball sprite, interpolated between simulation steps. */
+    private void renderBall(WorldSnapshot world, int i, double alpha) {
+        double radius = world.getBallRadius(i);
+        sprites.ball(radius, Constants.BALL_COLOR)
+                .draw(gc, world.getBallRenderX(i, alpha), world.getBallRenderY(i, alpha), radius * 2, radius * 2);
+    }
 
-        gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", Constants.UI_FONT_SIZE));
+    /** Draws the cached paddle sprite, interpolated between simulation steps. */
+    private void renderPaddle(WorldSnapshot world, double alpha) {
+        double width = world.getPaddleWidth();
+        double height = world.getPaddleHeight();
+        sprites.paddle(width, height)
+                .draw(gc, world.getPaddleRenderX(alpha), world.getPaddleRenderY(alpha), width, height);
+    }
 
-        gc.setTextAlign(TextAlignment.LEFT);
-        gc.fillText("Score: " + scoreManager.getScore(), 10, 25);
+    /** Draws a falling pickup with its type color and letter, interpolated between simulation steps. */
+    private void renderPowerUp(WorldSnapshot world, int i, double alpha) {
+        double drawX = world.getPowerUpRenderX(i, alpha);
+        double drawY = world.getPowerUpRenderY(i, alpha);
+        PowerUpType type = world.getPowerUpType(i);
+        sprites.powerUp(type, world.getPowerUpWidth(i), world.getPowerUpHeight(i),
+                getPowerUpColor(type), getPowerUpLetter(type))
+                .draw(gc, drawX - SpriteCache.PAD, drawY - SpriteCache.PAD);
+    }
 
-        gc.setTextAlign(TextAlignment.CENTER);
-        if (currentLevel != null) {
-            gc.fillText(currentLevel.getLevelName() + " (" +
-                            currentLevel.getLevelNumber() + "/" +
-                            gameManager.getLevelManager().getTotalLevels() + ")",
-                    Constants.WINDOW_WIDTH / 2.0, 25);
+    private Color getPowerUpColor(PowerUpType type) {
+        switch (type) {
+            case EXPAND_PADDLE:
+                return Constants.POWERUP_EXPAND_COLOR;
+            case SHRINK_PADDLE:
+                return Constants.POWERUP_SHRINK_COLOR;
+            case SPEED_UP_BALL:
+                return Constants.POWERUP_SPEED_UP_COLOR;
+            case SPEED_DOWN_BALL:
+                return Constants.POWERUP_SPEED_DOWN_COLOR;
+            case EXTRA_LIFE:
+                return Constants.POWERUP_EXTRA_LIFE_COLOR;
+            case MULTI_BALL:
+                return Constants.POWERUP_MULTI_BALL_COLOR;
+            default:
+                return Color.WHITE;
         }
+    }
 
-        gc.setTextAlign(TextAlignment.RIGHT);
-        gc.fillText("Lives: " + scoreManager.getLives(),
-                Constants.WINDOW_WIDTH - 10, 25);
+    private String getPowerUpLetter(PowerUpType type) {
+        switch (type) {
+            case EXPAND_PADDLE:
+                return "E";
+            case SHRINK_PADDLE:
+                return "S";
+            case SPEED_UP_BALL:
+                return "+";
+            case SPEED_DOWN_BALL:
+                return "-";
+            case EXTRA_LIFE:
+                return "L";
+            case MULTI_BALL:
+                return "M";
+            default:
+                return "?";
+        }
+    }
+
+    private void renderUI(WorldSnapshot world) {
+        hud.render(gc, world.getScore(), world.getLives(), world.getLevelName(),
+                world.getLevelNumber(), world.getTotalLevels());
     }
 
     private void renderMenu() {
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 60));
+        gc.setFont(FONT_60);
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("ARKANOID", Constants.WINDOW_WIDTH / 2.0, 150);
 
-        gc.setFont(Font.font("Arial", 30));
+        gc.setFont(FONT_30);
         gc.fillText("Press SPACE to Start", Constants.WINDOW_WIDTH / 2.0, 250);
 
         gc.setFill(Color.CYAN);
-        gc.setFont(Font.font("Arial", 26));
+        gc.setFont(FONT_26);
         gc.fillText("Press L for Level Selection", Constants.WINDOW_WIDTH / 2.0, 300);
 
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 20));
+        gc.setFont(FONT_20);
         gc.fillText("Controls:", Constants.WINDOW_WIDTH / 2.0, 360);
-        gc.setFont(Font.font("Arial", 16));
+        gc.setFont(FONT_16);
         gc.fillText("LEFT/RIGHT or A/D - Move Paddle", Constants.WINDOW_WIDTH / 2.0, 390);
         gc.fillText("SPACE - Launch Ball", Constants.WINDOW_WIDTH / 2.0, 415);
         gc.fillText("P - Pause Game", Constants.WINDOW_WIDTH / 2.0, 440);
         gc.fillText("ESC - Return to Menu", Constants.WINDOW_WIDTH / 2.0, 465);
     }
 
+    /** Splash while startup assets load: title and a progress bar over all queued assets. */
+    private void renderLoading() {
+        gc.setFill(Constants.BACKGROUND_COLOR);
+        gc.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(FONT_60);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText("ARKANOID", Constants.WINDOW_WIDTH / 2.0, 150);
+
+        double progress = assets.getProgress();
+        double barWidth = 300;
+        double barX = (Constants.WINDOW_WIDTH - barWidth) / 2.0;
+        double barY = Constants.WINDOW_HEIGHT / 2.0;
+        gc.setStroke(Color.WHITE);
+        gc.strokeRect(barX, barY, barWidth, 16);
+        gc.setFill(Color.CYAN);
+        gc.fillRect(barX + 2, barY + 2, (barWidth - 4) * progress, 12);
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(FONT_16);
+        gc.fillText("Loading... " + (int) (progress * 100) + "%", Constants.WINDOW_WIDTH / 2.0, barY + 45);
+    }
+
     private void renderPauseOverlay() {
         gc.setFill(Color.rgb(0, 0, 0, 0.7));
         gc.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
 
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 48));
+        gc.setFont(FONT_48);
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("PAUSED", Constants.WINDOW_WIDTH / 2.0, Constants.WINDOW_HEIGHT / 2.0 - 20);
-        gc.setFont(Font.font("Arial", 20));
+        gc.setFont(FONT_20);
         gc.fillText("Press P to Resume", Constants.WINDOW_WIDTH / 2.0, Constants.WINDOW_HEIGHT / 2.0 + 30);
         gc.fillText("Press ESC for Menu", Constants.WINDOW_WIDTH / 2.0, Constants.WINDOW_HEIGHT / 2.0 + 60);
     }
 
-    private void renderGameOver(ScoreManager scoreManager) {
+    private void renderGameOver(WorldSnapshot world) {
         gc.setFill(Color.rgb(0, 0, 0, 0.8));
         gc.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
         gc.setFill(Color.RED);
-        gc.setFont(Font.font("Arial", 60));
+        gc.setFont(FONT_60);
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("GAME OVER", Constants.WINDOW_WIDTH / 2.0, 250);
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 30));
-        gc.fillText("Final Score: " + scoreManager.getScore(), Constants.WINDOW_WIDTH / 2.0, 320);
-        gc.fillText("High Score: " + scoreManager.getHighScore(), Constants.WINDOW_WIDTH / 2.0, 360);
-        gc.setFont(Font.font("Arial", 20));
+        gc.setFont(FONT_30);
+        gc.fillText("Final Score: " + world.getScore(), Constants.WINDOW_WIDTH / 2.0, 320);
+        gc.fillText("High Score: " + world.getHighScore(), Constants.WINDOW_WIDTH / 2.0, 360);
+        gc.setFont(FONT_20);
         gc.fillText("Press SPACE to Try Again", Constants.WINDOW_WIDTH / 2.0, 420);
         gc.fillText("Press ESC for Menu", Constants.WINDOW_WIDTH / 2.0, 450);
     }
 
-    private void renderLevelComplete(GameManager gameManager) {
-        ScoreManager scoreManager = gameManager.getScoreManager();
-        Level currentLevel = gameManager.getCurrentLevel();
+    private void renderLevelComplete(WorldSnapshot world) {
 
         gc.setFill(Color.rgb(0, 0, 0, 0.8));
         gc.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
         gc.setFill(Color.GOLD);
-        gc.setFont(Font.font("Arial", 60));
+        gc.setFont(FONT_60);
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("LEVEL COMPLETE!", Constants.WINDOW_WIDTH / 2.0, 220);
         gc.setFill(Color.LIGHTGREEN);
-        gc.setFont(Font.font("Arial", 30));
-        if (currentLevel != null) {
-            gc.fillText(currentLevel.getLevelName(), Constants.WINDOW_WIDTH / 2.0, 270);
+        gc.setFont(FONT_30);
+        if (world.getLevelName() != null) {
+            gc.fillText(world.getLevelName(), Constants.WINDOW_WIDTH / 2.0, 270);
         }
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", 28));
-        gc.fillText("Score: " + scoreManager.getScore(), Constants.WINDOW_WIDTH / 2.0, 330);
+        gc.setFont(FONT_28);
+        gc.fillText("Score: " + world.getScore(), Constants.WINDOW_WIDTH / 2.0, 330);
     }
 
     /**
@@ -395,6 +567,6 @@ public class Renderer {
         cachedDefaultScaledBg = null;
         cachedLevelBackgrounds.clear();
         cachedScaledLevelBgs.clear();
-        System.out.println("🧹 Renderer cache cleared");
+        Log.info("🧹 Renderer cache cleared");
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package Arkanoid.renderer;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * A rectangle inside a source image, normally a {@link TextureAtlas} page.
+ * Drawing goes through the source-rectangle form of drawImage so sprites sharing
+ * one page do not switch textures.
+ */
+final class Sprite {
+    final Image image;
+    final double sx;
+    final double sy;
+    final double width;
+    final double height;
+
+    Sprite(Image image, double sx, double sy, double width, double height) {
+        this.image = image;
+        this.sx = sx;
+        this.sy = sy;
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Draws at natural size. */
+    void draw(GraphicsContext gc, double x, double y) {
+        gc.drawImage(image, sx, sy, width, height, x, y, width, height);
+    }
+
+    /** Draws scaled into the given rect. */
+    void draw(GraphicsContext gc, double x, double y, double w, double h) {
+        gc.drawImage(image, sx, sy, width, height, x, y, w, h);
+    }
+}
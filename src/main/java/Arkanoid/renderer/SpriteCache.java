@@ -0,0 +1,223 @@
+package Arkanoid.renderer;
+
+import Arkanoid.model.BrickType;
+import Arkanoid.model.PowerUpType;
+import Arkanoid.util.Constants;
+import Arkanoid.util.Log;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-rendered sprites for everything drawn in gameplay: bricks (file sprites scaled to
+ * brick size, or tinted shapes for types without one), the gradient ball, the paddle and
+ * the power-up capsules. Each look is rasterized once and packed into a shared
+ * {@link TextureAtlas}; the common looks are packed up front by {@link #preload}.
+ * The last ball and paddle lookups are memoized so the steady-state frame does no key
+ * building or hashing.
+ */
+class SpriteCache {
+    /** Transparent border around sprites whose stroke reaches past the shape bounds. */
+    static final int PAD = 1;
+
+    private static final Color HIGHLIGHT = Color.rgb(255, 255, 255, 0.3);
+    private static final Color BORDER = Color.rgb(0, 0, 0, 0.5);
+
+    private final TextureAtlas atlas;
+    private final SnapshotParameters params;
+    private final Font powerUpFont = Font.font("Arial", 12);
+
+    // Bricks: file sprite per type (null = tinted), tinted sprites per type keyed by color
+    private final Sprite[] brickSprites = new Sprite[BrickType.values().length];
+    private Sprite brokenBrickSprite;
+    @SuppressWarnings("unchecked")
+    private final Map<Color, Sprite>[] tintedBricks = new Map[BrickType.values().length];
+    private final Map<PowerUpType, Sprite> powerUpSprites = new EnumMap<>(PowerUpType.class);
+
+    // One-entry memo in front of the atlas lookups
+    private double lastBallRadius = -1;
+    private Color lastBallColor;
+    private Sprite lastBall;
+    private double lastPaddleWidth = -1;
+    private double lastPaddleHeight = -1;
+    private Sprite lastPaddle;
+
+    SpriteCache(TextureAtlas atlas) {
+        this.atlas = atlas;
+        this.params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        for (int i = 0; i < tintedBricks.length; i++) {
+            tintedBricks[i] = new HashMap<>();
+        }
+    }
+
+    /**
+     * Packs the brick images (by type name, plus "BROKEN") and the default looks of every
+     * gameplay sprite, so the first frames do not rasterize anything.
+     */
+    void preload(Map<String, Image> brickImages) {
+        for (BrickType type : BrickType.values()) {
+            Image img = brickImages.get(type.name());
+            if (img != null) {
+                brickSprites[type.ordinal()] = atlas.add("brick:" + type.name(), scaleToBrick(img));
+            }
+        }
+        Image broken = brickImages.get("BROKEN");
+        if (broken != null) {
+            brokenBrickSprite = atlas.add("brick:BROKEN", scaleToBrick(broken));
+        }
+
+        // Tinted bricks for the default palette
+        for (Color color : Constants.BRICK_COLORS) {
+            for (BrickType type : BrickType.values()) {
+                if (brickSprites[type.ordinal()] == null) {
+                    brick(type, false, color);
+                }
+            }
+        }
+
+        ball(Constants.BALL_RADIUS, Constants.BALL_COLOR);
+        paddle(Constants.PADDLE_WIDTH, Constants.PADDLE_HEIGHT);
+        Log.info("✅ Texture atlas packed: " + atlas.size() + " sprites" +
+                (atlas.getOverflowCount() > 0 ? " (" + atlas.getOverflowCount() + " overflow)" : ""));
+    }
+
+    /** @return brick sprite at BRICK_WIDTH x BRICK_HEIGHT; draw scaled for other sizes. */
+    Sprite brick(BrickType type, boolean damaged, Color tint) {
+        if (type == BrickType.HARD && damaged && brokenBrickSprite != null) {
+            // Use broken sprite if HARD has been damaged
+            return brokenBrickSprite;
+        }
+        Sprite sprite = brickSprites[type.ordinal()];
+        if (sprite != null) return sprite;
+
+        Map<Color, Sprite> tinted = tintedBricks[type.ordinal()];
+        sprite = tinted.get(tint);
+        if (sprite == null) {
+            sprite = atlas.add("brick:" + type.name() + ":" + tint, rasterizeTintedBrick(type, tint));
+            tinted.put(tint, sprite);
+        }
+        return sprite;
+    }
+
+    /** @return ball sprite of size 2r x 2r with a highlight toward the top-left. */
+    Sprite ball(double radius, Color color) {
+        if (radius == lastBallRadius && color.equals(lastBallColor)) return lastBall;
+
+        String key = "ball:" + radius + ":" + color;
+        Sprite sprite = atlas.get(key);
+        if (sprite == null) {
+            Canvas canvas = new Canvas(Math.ceil(radius * 2), Math.ceil(radius * 2));
+            GraphicsContext g = canvas.getGraphicsContext2D();
+            g.setFill(new RadialGradient(
+                    0, 0, 0.3, 0.3, 0.5, true, CycleMethod.NO_CYCLE,
+                    new Stop(0, Color.WHITE),
+                    new Stop(1, color)
+            ));
+            g.fillOval(0, 0, radius * 2, radius * 2);
+            sprite = atlas.add(key, snapshot(canvas));
+        }
+        lastBallRadius = radius;
+        lastBallColor = color;
+        lastBall = sprite;
+        return sprite;
+    }
+
+    /** @return paddle sprite of width x height; the paddle has a few sizes (expand/shrink). */
+    Sprite paddle(double width, double height) {
+        if (width == lastPaddleWidth && height == lastPaddleHeight) return lastPaddle;
+
+        String key = "paddle:" + width + "x" + height;
+        Sprite sprite = atlas.get(key);
+        if (sprite == null) {
+            Canvas canvas = new Canvas(Math.ceil(width), Math.ceil(height));
+            GraphicsContext g = canvas.getGraphicsContext2D();
+            g.setFill(Constants.PADDLE_COLOR);
+            g.fillRoundRect(0, 0, width, height, 5, 5);
+            // Highlight effect
+            g.setFill(HIGHLIGHT);
+            g.fillRoundRect(0, 0, width, height / 2, 5, 5);
+            sprite = atlas.add(key, snapshot(canvas));
+        }
+        lastPaddleWidth = width;
+        lastPaddleHeight = height;
+        lastPaddle = sprite;
+        return sprite;
+    }
+
+    /**
+     * @return power-up capsule with its letter; the sprite has {@link #PAD} pixels of
+     *         border around the width x height body for the outline
+     */
+    Sprite powerUp(PowerUpType type, double width, double height, Color color, String letter) {
+        Sprite sprite = powerUpSprites.get(type);
+        if (sprite != null) return sprite;
+
+        Canvas canvas = new Canvas(Math.ceil(width) + PAD * 2, Math.ceil(height) + PAD * 2);
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setFill(color);
+        g.fillOval(PAD, PAD, width, height);
+        g.setStroke(Color.WHITE);
+        g.setLineWidth(2);
+        g.strokeOval(PAD, PAD, width, height);
+        g.setFill(Color.WHITE);
+        g.setFont(powerUpFont);
+        g.setTextAlign(TextAlignment.LEFT);
+        g.fillText(letter, PAD + width / 2 - 4, PAD + height / 2 + 4);
+
+        sprite = atlas.add("powerup:" + type.name(), snapshot(canvas));
+        powerUpSprites.put(type, sprite);
+        return sprite;
+    }
+
+    /** Downscales a large brick image once so the atlas holds it at draw size. */
+    private WritableImage scaleToBrick(Image img) {
+        Canvas canvas = new Canvas(Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT);
+        canvas.getGraphicsContext2D().drawImage(img, 0, 0, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT);
+        return snapshot(canvas);
+    }
+
+    /** Tinted rounded brick, used for types without a sprite file. */
+    private WritableImage rasterizeTintedBrick(BrickType type, Color tint) {
+        double width = Constants.BRICK_WIDTH;
+        double height = Constants.BRICK_HEIGHT;
+        Canvas canvas = new Canvas(width, height);
+        GraphicsContext g = canvas.getGraphicsContext2D();
+
+        g.setFill(tint);
+        g.fillRoundRect(1, 1, width - 2, height - 2, 5, 5);
+
+        // Highlight
+        g.setFill(HIGHLIGHT);
+        g.fillRoundRect(1, 1, width - 2, height / 2, 5, 5);
+
+        // Border
+        g.setStroke(BORDER);
+        g.setLineWidth(2);
+        g.strokeRoundRect(1, 1, width - 2, height - 2, 5, 5);
+
+        // Unbreakable indicator
+        if (type == BrickType.UNBREAKABLE) {
+            g.setStroke(Color.YELLOW);
+            g.setLineWidth(2);
+            g.strokeLine(5, height / 2, width - 5, height / 2);
+        }
+        return snapshot(canvas);
+    }
+
+    private WritableImage snapshot(Canvas canvas) {
+        return canvas.snapshot(params, null);
+    }
+}
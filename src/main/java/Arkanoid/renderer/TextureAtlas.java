@@ -0,0 +1,78 @@
+package Arkanoid.renderer;
+
+import Arkanoid.util.Log;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Packs sprites into a single image page with a simple shelf packer: sprites are placed
+ * left to right, and a new shelf starts below the tallest one when a row is full.
+ * Sprites are normally added at startup; later additions use the free space left.
+ * If the page is full the sprite keeps its own image, so drawing still works, just
+ * without batching.
+ */
+class TextureAtlas {
+    static final int PAGE_SIZE = 512;
+    private static final int GAP = 1; // keeps filtering from bleeding between neighbours
+
+    private final WritableImage page = new WritableImage(PAGE_SIZE, PAGE_SIZE);
+    private final Map<String, Sprite> sprites = new HashMap<>();
+    private int shelfX;
+    private int shelfY;
+    private int shelfHeight;
+    private int overflowCount;
+
+    /** @return the sprite registered under key, or null. */
+    Sprite get(String key) {
+        return sprites.get(key);
+    }
+
+    /** Copies an image into the page and registers it under key; returns the existing sprite if the key is taken. */
+    Sprite add(String key, Image image) {
+        Sprite existing = sprites.get(key);
+        if (existing != null) return existing;
+
+        int w = (int) Math.ceil(image.getWidth());
+        int h = (int) Math.ceil(image.getHeight());
+        PixelReader reader = image.getPixelReader();
+        Sprite sprite;
+
+        if (reader != null && reserve(w, h)) {
+            page.getPixelWriter().setPixels(shelfX, shelfY, w, h, reader, 0, 0);
+            sprite = new Sprite(page, shelfX, shelfY, image.getWidth(), image.getHeight());
+            shelfX += w + GAP;
+        } else {
+            overflowCount++;
+            Log.warn("⚠️ Texture atlas full, drawing " + key + " from its own image");
+            sprite = new Sprite(image, 0, 0, image.getWidth(), image.getHeight());
+        }
+        sprites.put(key, sprite);
+        return sprite;
+    }
+
+    /** Moves the cursor to a spot with room for w x h; false if the page is full. */
+    private boolean reserve(int w, int h) {
+        if (w > PAGE_SIZE || h > PAGE_SIZE) return false;
+        if (shelfX + w > PAGE_SIZE) {
+            shelfY += shelfHeight + GAP;
+            shelfX = 0;
+            shelfHeight = 0;
+        }
+        if (shelfY + h > PAGE_SIZE) return false;
+        shelfHeight = Math.max(shelfHeight, h);
+        return true;
+    }
+
+    /** @return the shared page image. */
+    Image getPage() { return page; }
+
+    /** @return number of sprites registered (including overflow). */
+    int size() { return sprites.size(); }
+
+    /** @return number of sprites that did not fit in the page. */
+    int getOverflowCount() { return overflowCount; }
+}
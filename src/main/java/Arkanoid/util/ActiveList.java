@@ -0,0 +1,60 @@
+package Arkanoid.util;
+
+import Arkanoid.model.Tickable;
+
+import java.util.Arrays;
+
+/**
+ * Unordered list of entities that need ticking. Removal swaps the last entry into the
+ * freed position, so add and remove are both O(1) and iteration stays dense.
+ */
+public class ActiveList<T extends Tickable> {
+    private Tickable[] items = new Tickable[16];
+    private int size;
+
+    /** Registers an entity; does nothing if it is already in a list. */
+    public void add(T item) {
+        if (item.getActiveIndex() >= 0) return;
+        if (size == items.length) items = Arrays.copyOf(items, size * 2);
+        items[size] = item;
+        item.setActiveIndex(size);
+        size++;
+    }
+
+    /**
+     * Unregisters an entity in O(1).
+     * @return false if it was not in this list
+     */
+    public boolean remove(T item) {
+        int index = item.getActiveIndex();
+        if (index < 0 || index >= size || items[index] != item) return false;
+
+        int last = --size;
+        if (index != last) {
+            items[index] = items[last];
+            items[index].setActiveIndex(index);
+        }
+        items[last] = null;
+        item.setActiveIndex(-1);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return (T) items[index];
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /** Unregisters everything. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            items[i].setActiveIndex(-1);
+            items[i] = null;
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,100 @@
+package Arkanoid.util;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads assets (level files, sounds, images) in parallel on a small pool of daemon workers.
+ * Every task returns a future, and the loader counts finished tasks so the loading screen can
+ * show progress. Tasks the menu needs are submitted with {@link #submitForMenu}; once those
+ * are done {@link #menuReady()} completes and the game can take input while the rest is
+ * still loading. A failing task is logged and counted as finished, so one broken file
+ * never holds up startup.
+ */
+public class AssetLoader {
+    private final ExecutorService workers;
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<CompletableFuture<?>> menuTasks = new CopyOnWriteArrayList<>();
+
+    public AssetLoader(int threads) {
+        AtomicInteger index = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Asset loader-" + index.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Loads on a worker thread; the future completes exceptionally if the task throws. */
+    public <T> CompletableFuture<T> submit(String name, Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        submitted.incrementAndGet();
+        try {
+            workers.execute(() -> run(name, task, future));
+        } catch (RejectedExecutionException e) {
+            // Shut down: nothing will load any more
+            submitted.decrementAndGet();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private <T> void run(String name, Callable<T> task, CompletableFuture<T> future) {
+        long start = System.nanoTime();
+        try {
+            T result = task.call();
+            // Counted before completing, so callbacks already see the new progress
+            finished.incrementAndGet();
+            Log.debug("Loaded " + name + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            future.complete(result);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            finished.incrementAndGet();
+            Log.error("❌ Failed to load " + name, e);
+            future.completeExceptionally(e);
+        }
+    }
+
+    /** Like {@link #submit}, and {@link #menuReady()} waits for it. */
+    public <T> CompletableFuture<T> submitForMenu(String name, Callable<T> task) {
+        CompletableFuture<T> future = submit(name, task);
+        menuTasks.add(future);
+        return future;
+    }
+
+    /**
+     * @return a future completing when every menu task submitted so far has finished,
+     *         successfully or not
+     */
+    public CompletableFuture<Void> menuReady() {
+        return CompletableFuture.allOf(menuTasks.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, error) -> null);
+    }
+
+    /** @return finished / submitted, 1.0 when nothing is pending. */
+    public double getProgress() {
+        int total = submitted.get();
+        return total == 0 ? 1.0 : (double) finished.get() / total;
+    }
+
+    public boolean isDone() {
+        return finished.get() >= submitted.get();
+    }
+
+    public int getSubmittedCount() { return submitted.get(); }
+    public int getFinishedCount() { return finished.get(); }
+    public int getFailedCount() { return failed.get(); }
+
+    /** Stops the workers; tasks already running finish, queued ones are dropped. */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
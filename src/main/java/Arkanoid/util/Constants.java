@@ -67,6 +67,27 @@ public class Constants {
     public static final int FPS = 60;
     public static final long FRAME_TIME = 1000000000 / FPS;
 
+    // Fixed-step simulation (decoupled from the display refresh rate)
+    public static final boolean FIXED_TIMESTEP_ENABLED = true;
+    public static final int SIMULATION_HZ = 120;
+    public static final double FIXED_TIMESTEP = 1.0 / SIMULATION_HZ;
+    public static final double MAX_FRAME_TIME = 0.1; // cap catch-up after stalls: at most 12 steps at 120 Hz
+    // Step the simulation on its own thread; -Darkanoid.simThread=false runs it on the FX thread
+    public static final boolean SIMULATION_THREAD_ENABLED =
+            Boolean.parseBoolean(System.getProperty("arkanoid.simThread", "true"));
+
+    // Startup asset loading: worker threads decoding images, sounds and levels in parallel
+    public static final int ASSET_LOADER_THREADS = Integer.getInteger("arkanoid.assetThreads",
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)));
+
+    // Debug: cross-check cached counters against full scans (run with -Darkanoid.debugCounters=true)
+    public static final boolean DEBUG_VERIFY_COUNTERS = Boolean.getBoolean("arkanoid.debugCounters");
+
+    // Logging: threshold (-Darkanoid.log.level=DEBUG|INFO|WARN|ERROR) and crash dump of recent messages
+    public static final String LOG_LEVEL = System.getProperty("arkanoid.log.level", "INFO");
+    public static final boolean LOG_DUMP_ON_CRASH =
+            Boolean.parseBoolean(System.getProperty("arkanoid.log.dumpOnCrash", "true"));
+
     // Scoring
     public static final int SCORE_PER_BRICK = 10;
     public static final int SCORE_MULTIPLIER_HARD = 2;
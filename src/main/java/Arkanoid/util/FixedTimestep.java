@@ -0,0 +1,45 @@
+package Arkanoid.util;
+
+/**
+ * Accumulator for running the simulation at a fixed rate independent of the display refresh.
+ * Each frame adds the real elapsed time; the caller then runs one simulation step per
+ * {@link #getStep()} consumed and renders with {@link #getAlpha()} to interpolate between
+ * the last two simulation states.
+ */
+public class FixedTimestep {
+    private final double step;
+    private final double maxFrameTime;
+    private double accumulator;
+
+    public FixedTimestep(double step, double maxFrameTime) {
+        this.step = step;
+        this.maxFrameTime = maxFrameTime;
+        this.accumulator = 0;
+    }
+
+    /**
+     * Adds a frame's elapsed time and returns how many fixed steps should run now.
+     * Long frames are clamped to maxFrameTime so a stall cannot trigger an endless catch-up.
+     */
+    public int advance(double frameSeconds) {
+        accumulator += Math.max(0, Math.min(frameSeconds, maxFrameTime));
+        int steps = (int) (accumulator / step);
+        accumulator -= steps * step;
+        return steps;
+    }
+
+    /** @return fraction (0..1) of a step left in the accumulator, for render interpolation. */
+    public double getAlpha() {
+        return accumulator / step;
+    }
+
+    /** @return fixed simulation step in seconds. */
+    public double getStep() {
+        return step;
+    }
+
+    /** Drops any leftover time, e.g. after resuming from a pause or scene switch. */
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,173 @@
+package Arkanoid.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rolling per-frame performance samples: update/render time, GC time overlapping a frame,
+ * bricks tested per ball per tick and sounds triggered.
+ * Each metric keeps the last {@link #WINDOW} samples in a fixed ring, so recording never
+ * allocates. Every metric has a single writer thread (simulation or FX); readers may see a
+ * sample being overwritten, which is acceptable for diagnostics.
+ */
+public class FrameMetrics {
+    /**
+     * Samples kept per metric. The time covered depends on how often a metric is recorded:
+     * 10 s of rendered frames at 60 fps, 5 s of simulation steps at 120 Hz, and less for
+     * per-ball samples when several balls are in play.
+     */
+    public static final int WINDOW = 600;
+
+    /** What is recorded; time metrics are stored in nanoseconds. */
+    public enum Metric {
+        FRAME("frame", true),
+        UPDATE("update", true),
+        RENDER("render", true),
+        GC("gc", true),
+        BRICKS_TESTED("bricks tested", false),
+        SOUNDS("sounds", false);
+
+        private final String label;
+        private final boolean time;
+
+        Metric(String label, boolean time) {
+            this.label = label;
+            this.time = time;
+        }
+
+        public String getLabel() { return label; }
+        /** @return true if samples are nanoseconds (shown as ms). */
+        public boolean isTime() { return time; }
+    }
+
+    private static final Metric[] METRICS = Metric.values();
+    private static FrameMetrics instance;
+
+    private final long[][] samples = new long[METRICS.length][WINDOW];
+    private final long[] counts = new long[METRICS.length]; // total samples ever recorded
+    private final long[] scratch = new long[WINDOW];         // sorted copy for percentiles
+
+    private final AtomicInteger pendingSounds = new AtomicInteger();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastGcMillis = -1;
+
+    private volatile boolean overlayVisible;
+
+    FrameMetrics() { } // package-private so tests can use a fresh instance
+
+    /** @return singleton instance. */
+    public static synchronized FrameMetrics getInstance() {
+        if (instance == null) instance = new FrameMetrics();
+        return instance;
+    }
+
+    /** Appends one sample, overwriting the oldest once the window is full. */
+    public void record(Metric metric, long value) {
+        int m = metric.ordinal();
+        samples[m][(int) (counts[m] % WINDOW)] = value;
+        counts[m]++;
+    }
+
+    /** Counts a triggered sound; may be called from any thread. */
+    public void countSound() {
+        pendingSounds.incrementAndGet();
+    }
+
+    /**
+     * Closes the current frame's counters: records the sounds triggered and the GC time
+     * accumulated since the previous call. Call once per frame from the FX thread.
+     */
+    public void endFrame() {
+        record(Metric.SOUNDS, pendingSounds.getAndSet(0));
+
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            long time = collector.getCollectionTime();
+            if (time > 0) gcMillis += time;
+        }
+        if (lastGcMillis >= 0) {
+            record(Metric.GC, (gcMillis - lastGcMillis) * 1_000_000L);
+        }
+        lastGcMillis = gcMillis;
+    }
+
+    /** @return number of samples currently in the window for this metric. */
+    public int size(Metric metric) {
+        return (int) Math.min(counts[metric.ordinal()], WINDOW);
+    }
+
+    /**
+     * @param percentile 0..100; 100 gives the maximum
+     * @return nearest-rank percentile of the current window, or 0 when it is empty
+     */
+    public synchronized long percentile(Metric metric, double percentile) {
+        int n = size(metric);
+        if (n == 0) return 0;
+        System.arraycopy(samples[metric.ordinal()], 0, scratch, 0, n);
+        Arrays.sort(scratch, 0, n);
+        int rank = (int) Math.ceil(percentile / 100.0 * n);
+        return scratch[Math.max(0, Math.min(n - 1, rank - 1))];
+    }
+
+    public long max(Metric metric) {
+        return percentile(metric, 100);
+    }
+
+    /** Drops every sample; used when QA wants a clean window before reproducing a stutter. */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        pendingSounds.set(0);
+        lastGcMillis = -1;
+    }
+
+    /**
+     * Writes the current window as CSV: one row per sample (oldest first) followed by a
+     * p50/p99/max summary row per metric. Time values are in milliseconds.
+     */
+    public synchronized void writeCsv(Writer out) throws IOException {
+        out.write("metric,sample,value\n");
+        for (Metric metric : METRICS) {
+            int m = metric.ordinal();
+            int n = size(metric);
+            long first = counts[m] - n;
+            for (int i = 0; i < n; i++) {
+                long value = samples[m][(int) ((first + i) % WINDOW)];
+                out.write(metric.name() + "," + i + "," + format(metric, value) + "\n");
+            }
+        }
+        for (Metric metric : METRICS) {
+            out.write(metric.name() + ",p50," + format(metric, percentile(metric, 50)) + "\n");
+            out.write(metric.name() + ",p99," + format(metric, percentile(metric, 99)) + "\n");
+            out.write(metric.name() + ",max," + format(metric, max(metric)) + "\n");
+        }
+    }
+
+    /** Writes {@link #writeCsv} to a file. */
+    public void exportCsv(Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeCsv(out);
+        }
+    }
+
+    /** @return value in display units: milliseconds for time metrics, raw count otherwise. */
+    public static double toDisplay(Metric metric, long value) {
+        return metric.isTime() ? value / 1_000_000.0 : value;
+    }
+
+    private static String format(Metric metric, long value) {
+        return metric.isTime() ? String.format(Locale.ROOT, "%.3f", toDisplay(metric, value))
+                : Long.toString(value);
+    }
+
+    public boolean isOverlayVisible() { return overlayVisible; }
+    public void toggleOverlay() { overlayVisible = !overlayVisible; }
+}
@@ -5,6 +5,10 @@ import Arkanoid.model.GameState;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * Centralizes keyboard input handling and routes actions by current GameState.
  * Exposes a callback to open the Level Selection screen when appropriate.
@@ -19,6 +23,7 @@ public class InputHandler {
 
     public void handleKeyPressed(KeyEvent event) {
         KeyCode code = event.getCode();
+        if (handleMetricsInput(code)) return;
         GameState state = gameManager.getCurrentState();
 
         switch (state) {
@@ -36,6 +41,28 @@ public class InputHandler {
         }
     }
 
+    // ================= METRICS (any state) =================
+    /** F3 toggles the performance panel, F4 writes the current window to a CSV file. */
+    private boolean handleMetricsInput(KeyCode code) {
+        FrameMetrics metrics = FrameMetrics.getInstance();
+        switch (code) {
+            case F3 -> metrics.toggleOverlay();
+            case F4 -> {
+                Path file = Paths.get("metrics-" + System.currentTimeMillis() + ".csv");
+                try {
+                    metrics.exportCsv(file);
+                    Log.info("📊 Metrics exported to " + file.toAbsolutePath());
+                } catch (IOException e) {
+                    Log.error("❌ Could not export metrics to " + file.toAbsolutePath(), e);
+                }
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
     // ================= MENU =================
     private void handleMenuInput(KeyCode code) {
         switch (code) {
@@ -43,10 +70,10 @@ public class InputHandler {
             case L -> {
                 // Always allow opening Level Selection in menu
                 if (onShowLevelSelection != null) {
-                    System.out.println("Opening Level Selection...");
+                    Log.info("Opening Level Selection...");
                     onShowLevelSelection.run();
                 } else {
-                    System.out.println("onShowLevelSelection callback is null!");
+                    Log.warn("onShowLevelSelection callback is null!");
                 }
             }
             case S -> {
@@ -55,7 +82,7 @@ public class InputHandler {
             }
             case ESCAPE -> {
                 // Exit game from menu with ESC
-                System.out.println("Exiting game...");
+                Log.info("Exiting game...");
                 System.exit(0);
             }
             default -> {
@@ -67,8 +94,8 @@ public class InputHandler {
     // ================= PLAYING =================
     private void handlePlayingInput(KeyCode code, boolean pressed) {
         switch (code) {
-            case LEFT, A -> gameManager.getPaddle().setMovingLeft(pressed);
-            case RIGHT, D -> gameManager.getPaddle().setMovingRight(pressed);
+            case LEFT, A -> gameManager.setPaddleMovingLeft(pressed);
+            case RIGHT, D -> gameManager.setPaddleMovingRight(pressed);
             case SPACE -> {
                 if (pressed) gameManager.launchBall();
             }
@@ -78,10 +105,10 @@ public class InputHandler {
             case ESCAPE -> {
                 if (pressed) {
                     // ESC: return to main menu (and open Level Selection)
-                    System.out.println("Returning to MENU from PLAYING...");
+                    Log.info("Returning to MENU from PLAYING...");
                     gameManager.setCurrentState(GameState.MENU);
                     if (onShowLevelSelection != null) {
-                        System.out.println("Opening Level Selection...");
+                        Log.info("Opening Level Selection...");
                         onShowLevelSelection.run();
                     }
                 }
@@ -98,10 +125,10 @@ public class InputHandler {
             case P -> gameManager.pauseGame(); // resume
             case ESCAPE -> {
                 // ESC from paused -> return to menu
-                System.out.println("Back to MENU from PAUSE");
+                Log.info("Back to MENU from PAUSE");
                 gameManager.setCurrentState(GameState.MENU);
                 if (onShowLevelSelection != null) {
-                    System.out.println("Opening Level Selection from PAUSE...");
+                    Log.info("Opening Level Selection from PAUSE...");
                     onShowLevelSelection.run();
                 }
             }
@@ -116,10 +143,10 @@ public class InputHandler {
         switch (code) {
             case SPACE -> gameManager.startGame();
             case ESCAPE -> {
-                System.out.println("Back to MENU from GAME OVER");
+                Log.info("Back to MENU from GAME OVER");
                 gameManager.setCurrentState(GameState.MENU);
                 if (onShowLevelSelection != null) {
-                    System.out.println("Opening Level Selection from GAME OVER...");
+                    Log.info("Opening Level Selection from GAME OVER...");
                     onShowLevelSelection.run();
                 }
             }
@@ -134,10 +161,10 @@ public class InputHandler {
         switch (code) {
             case SPACE -> gameManager.nextLevel();
             case ESCAPE -> {
-                System.out.println("Back to MENU from LEVEL COMPLETE");
+                Log.info("Back to MENU from LEVEL COMPLETE");
                 gameManager.setCurrentState(GameState.MENU);
                 if (onShowLevelSelection != null) {
-                    System.out.println("Opening Level Selection from LEVEL COMPLETE...");
+                    Log.info("Opening Level Selection from LEVEL COMPLETE...");
                     onShowLevelSelection.run();
                 }
             }
@@ -0,0 +1,145 @@
+package Arkanoid.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Game-wide logger. Calls only filter by level and append to a lock-free {@link LogRing};
+ * a daemon thread prints to the console every few milliseconds, so the game loop and the
+ * simulation thread never wait on console I/O.
+ * The threshold comes from {@code -Darkanoid.log.level} (DEBUG, INFO, WARN, ERROR).
+ * With {@link #installCrashHandler()} an uncaught exception also writes the last
+ * {@link #CAPACITY} messages to {@code arkanoid-crash-<millis>.log}.
+ */
+public final class Log {
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    /** Messages kept in memory; also the size of the crash dump. */
+    public static final int CAPACITY = 1024;
+    private static final long DRAIN_INTERVAL_NANOS = 10_000_000L;
+
+    private static final LogRing RING = new LogRing(CAPACITY);
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS", Locale.ROOT)
+            .withZone(ZoneId.systemDefault());
+    private static final LogRing.Sink CONSOLE = Log::printToConsole;
+
+    private static volatile Level threshold = parseLevel(Constants.LOG_LEVEL);
+    private static long reportedDropped;
+
+    static {
+        Thread drainer = new Thread(Log::drainLoop, "Log drain");
+        drainer.setDaemon(true);
+        drainer.start();
+        // Daemon threads die with the JVM; print what is still queued on exit
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "Log flush"));
+    }
+
+    private Log() { }
+
+    public static boolean isEnabled(Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public static void setLevel(Level level) {
+        threshold = level;
+    }
+
+    public static void debug(String message) { log(Level.DEBUG, message, null); }
+    public static void info(String message) { log(Level.INFO, message, null); }
+    public static void warn(String message) { log(Level.WARN, message, null); }
+    public static void error(String message) { log(Level.ERROR, message, null); }
+    public static void error(String message, Throwable error) { log(Level.ERROR, message, error); }
+
+    public static void log(Level level, String message, Throwable error) {
+        if (isEnabled(level)) {
+            RING.append(level, message, error);
+        }
+    }
+
+    /** Prints everything queued so far on the calling thread. */
+    public static synchronized void flush() {
+        RING.drain(CONSOLE);
+        long dropped = RING.getDropped();
+        if (dropped != reportedDropped) {
+            System.err.println("⚠️ Log ring overflowed, " + (dropped - reportedDropped) + " messages dropped");
+            reportedDropped = dropped;
+        }
+    }
+
+    private static void drainLoop() {
+        while (true) {
+            flush();
+            LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+        }
+    }
+
+    private static void printToConsole(long timeMillis, Level level, String thread, String message, Throwable error) {
+        if (level.compareTo(Level.WARN) >= 0) {
+            System.err.println(message);
+        } else {
+            System.out.println(message);
+        }
+        if (error != null) {
+            error.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the most recent messages, oldest first, with time, level and thread.
+     * Does not consume them, so it is safe while the drain thread runs.
+     */
+    public static void dumpRecent(Writer out) throws IOException {
+        PrintWriter writer = new PrintWriter(out);
+        RING.dumpRecent((timeMillis, level, thread, message, error) -> {
+            writer.printf("%s %-5s [%s] %s%n", TIME.format(Instant.ofEpochMilli(timeMillis)), level, thread, message);
+            if (error != null) {
+                error.printStackTrace(writer);
+            }
+        });
+        writer.flush();
+    }
+
+    /**
+     * Makes uncaught exceptions on any thread log their stack trace and dump the recent log
+     * to a file, then passes them on to the previous default handler, if any.
+     */
+    public static void installCrashHandler() {
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, error) -> {
+            error("💥 Uncaught exception on " + thread.getName(), error);
+            Path file = Paths.get("arkanoid-crash-" + System.currentTimeMillis() + ".log");
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                dumpRecent(out);
+                System.err.println("💥 Crash log written to " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("❌ Could not write crash log: " + e.getMessage());
+            }
+            flush();
+            if (previous != null) {
+                previous.uncaughtException(thread, error);
+            }
+        });
+    }
+
+    static Level parseLevel(String name) {
+        try {
+            return Level.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Level.INFO;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package Arkanoid.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring of log entries for {@link Log}.
+ * Any thread may append: a sequence number is claimed with one atomic increment and the
+ * immutable entry is swapped into its slot, so appending never blocks. A slot only ever
+ * moves forward to a newer sequence; a writer that was lapped while formatting gives its
+ * entry up instead of hiding the newer one. A single consumer drains
+ * entries in order; if writers lap it, the overwritten entries are counted as dropped
+ * instead of stalling the writers. The last {@code capacity} entries stay readable for
+ * a crash dump.
+ */
+final class LogRing {
+    /** Receives one entry; fields are only valid during the call. */
+    interface Sink {
+        void accept(long timeMillis, Log.Level level, String thread, String message, Throwable error);
+    }
+
+    private static final class Entry {
+        final long seq;
+        final long timeMillis;
+        final Log.Level level;
+        final String thread;
+        final String message;
+        final Throwable error;
+
+        Entry(long seq, long timeMillis, Log.Level level, String thread, String message, Throwable error) {
+            this.seq = seq;
+            this.timeMillis = timeMillis;
+            this.level = level;
+            this.thread = thread;
+            this.message = message;
+            this.error = error;
+        }
+
+        void deliver(Sink sink) {
+            sink.accept(timeMillis, level, thread, message, error);
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong writeSeq = new AtomicLong();
+    private long readSeq;  // consumer-owned
+    private long dropped;  // consumer-owned
+
+    /** @param capacity power of two */
+    LogRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    void append(Log.Level level, String message, Throwable error) {
+        long seq = writeSeq.getAndIncrement();
+        Entry entry = new Entry(seq, System.currentTimeMillis(), level,
+                Thread.currentThread().getName(), message, error);
+        int slot = (int) (seq & mask);
+        while (true) {
+            Entry current = entries.get(slot);
+            if (current != null && current.seq > seq) return; // lapped: the newer entry wins
+            if (entries.compareAndSet(slot, current, entry)) return;
+        }
+    }
+
+    /**
+     * Hands every published entry since the last drain to the sink, oldest first.
+     * Single consumer only.
+     * @return number of entries delivered
+     */
+    int drain(Sink sink) {
+        int delivered = 0;
+        while (true) {
+            long head = writeSeq.get();
+            if (readSeq >= head) return delivered;
+            if (head - readSeq > capacity) {
+                // Writers lapped us: skip to the oldest entry still in the ring
+                dropped += head - capacity - readSeq;
+                readSeq = head - capacity;
+            }
+
+            Entry entry = entries.get((int) (readSeq & mask));
+            if (entry == null || entry.seq < readSeq) {
+                return delivered; // claimed but not published yet
+            }
+            if (entry.seq > readSeq) {
+                dropped++; // overwritten before we got to it
+            } else {
+                entry.deliver(sink);
+                delivered++;
+            }
+            readSeq++;
+        }
+    }
+
+    /**
+     * Hands the most recent entries (up to the capacity) to the sink without consuming
+     * them; safe to call from any thread, e.g. a crash handler.
+     */
+    void dumpRecent(Sink sink) {
+        long head = writeSeq.get();
+        for (long seq = Math.max(0, head - capacity); seq < head; seq++) {
+            Entry entry = entries.get((int) (seq & mask));
+            if (entry != null && entry.seq == seq) {
+                entry.deliver(sink);
+            }
+        }
+    }
+
+    /** @return entries lost because writers lapped the consumer. */
+    long getDropped() {
+        return dropped;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
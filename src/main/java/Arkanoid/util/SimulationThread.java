@@ -0,0 +1,75 @@
+package Arkanoid.util;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a fixed-step simulation on its own daemon thread, independent of the JavaFX pulse.
+ * Each iteration feeds the real elapsed time into a {@link FixedTimestep}, lets the
+ * callback run the due steps, then parks until the next step is due.
+ */
+public class SimulationThread {
+    /** Work done on the simulation thread once per wake-up. */
+    public interface Tick {
+        /** @param steps number of fixed steps due now (may be 0), each of length step seconds */
+        void run(int steps, double step);
+    }
+
+    private final FixedTimestep timestep;
+    private final Tick tick;
+    private volatile boolean running;
+    private Thread thread;
+
+    public SimulationThread(FixedTimestep timestep, Tick tick) {
+        this.timestep = timestep;
+        this.tick = tick;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::loop, "Simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void loop() {
+        long stepNanos = (long) (timestep.getStep() * 1_000_000_000L);
+        long last = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            int steps = timestep.advance((now - last) / 1_000_000_000.0);
+            last = now;
+
+            try {
+                tick.run(steps, timestep.getStep());
+            } catch (RuntimeException e) {
+                // Keep the game alive; one bad step should not kill the loop
+                Log.error("❌ Simulation step failed", e);
+            }
+
+            // Sleep for the rest of the current step
+            long remaining = stepNanos - (long) (timestep.getAlpha() * stepNanos) - (System.nanoTime() - now);
+            if (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
+
+    /** Stops the loop and waits briefly for the thread to finish its current step. */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,49 @@
+package Arkanoid.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free hand-off of the latest value from one producer thread to one consumer thread.
+ * Three pre-allocated slots rotate: the producer fills {@link #back()} and calls
+ * {@link #publish()}; the consumer calls {@link #acquire()} and reads the returned slot
+ * until its next acquire. Neither side ever waits, and intermediate values the consumer
+ * was too slow to see are simply overwritten.
+ */
+public class TripleBuffer<T> {
+    private static final int FRESH = 4; // set on the middle index when it holds an unseen value
+
+    private final Object[] slots = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;   // producer-owned
+    private int front = 2;  // consumer-owned
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /** @return the slot the producer may write; valid until {@link #publish()}. */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    /** Makes the back slot the latest value and gives the producer a free slot. */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & ~FRESH;
+    }
+
+    /**
+     * @return the latest published value, or the same slot as last time if nothing new
+     *         was published; the consumer may read it until the next call
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & ~FRESH;
+        }
+        return (T) slots[front];
+    }
+}
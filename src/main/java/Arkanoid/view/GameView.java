@@ -1,9 +1,11 @@
 package Arkanoid.view;
 
+import Arkanoid.engine.WorldSnapshot;
 import Arkanoid.manager.GameManager;
 import Arkanoid.renderer.Renderer;
 import Arkanoid.util.Constants;
 import Arkanoid.util.InputHandler;
+import Arkanoid.util.Log;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -25,8 +27,8 @@ public class GameView {
         canvas = new Canvas(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
         gc = canvas.getGraphicsContext2D();
 
-        // Create renderer
-        renderer = new Renderer(gc);
+        // Create renderer; its images load on the game's asset loader
+        renderer = new Renderer(gc, gameManager.getAssetLoader());
 
         // Create input handler
         inputHandler = new InputHandler(gameManager);
@@ -47,7 +49,22 @@ public class GameView {
      * Renders one frame using the internal Renderer.
      */
     public void render(GameManager gameManager) {
-        renderer.render(gameManager);
+        renderer.render(gameManager.acquireSnapshot());
+    }
+
+    /**
+     * Renders one frame, interpolating moving entities between simulation steps.
+     * @param alpha 0 = previous step, 1 = latest step
+     */
+    public void render(GameManager gameManager, double alpha) {
+        renderer.render(gameManager.acquireSnapshot(), alpha);
+    }
+
+    /**
+     * Renders an already acquired snapshot, e.g. one published by the simulation thread.
+     */
+    public void render(WorldSnapshot snapshot, double alpha) {
+        renderer.render(snapshot, alpha);
     }
 
     /**
@@ -83,6 +100,6 @@ public class GameView {
             scene.setOnKeyReleased(null);
         }
 
-        System.out.println("🧹 GameView cleaned up");
+        Log.info("🧹 GameView cleaned up");
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package Arkanoid.audio;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DuckingEnvelopeTest {
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testHoldThenLinearRelease() {
+        DuckingEnvelope envelope = new DuckingEnvelope(100 * MS);
+        assertEquals(0, envelope.amountAt(0));
+
+        envelope.duck(0, 250 * MS);
+        assertEquals(1, envelope.amountAt(0));
+        assertEquals(1, envelope.amountAt(250 * MS));
+        assertEquals(0.5, envelope.amountAt(300 * MS), 1e-9);
+        assertEquals(0, envelope.amountAt(350 * MS));
+    }
+
+    @Test
+    void testOverlappingDucksMergeIntoOneHold() {
+        DuckingEnvelope envelope = new DuckingEnvelope(100 * MS);
+        envelope.duck(0, 250 * MS);
+        envelope.duck(200 * MS, 250 * MS);
+        envelope.duck(210 * MS, 10 * MS); // shorter duck inside the hold changes nothing
+
+        assertEquals(1, envelope.amountAt(400 * MS), "Hold extended by the second duck");
+        assertEquals(0.5, envelope.amountAt(500 * MS), 1e-9);
+        assertEquals(0, envelope.amountAt(550 * MS));
+    }
+
+    @Test
+    void testDuckDuringReleaseSnapsBack() {
+        DuckingEnvelope envelope = new DuckingEnvelope(100 * MS);
+        envelope.duck(0, 100 * MS);
+        assertTrue(envelope.amountAt(150 * MS) < 1);
+
+        envelope.duck(150 * MS, 100 * MS);
+        assertEquals(1, envelope.amountAt(150 * MS));
+    }
+}
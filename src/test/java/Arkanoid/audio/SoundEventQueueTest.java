@@ -0,0 +1,56 @@
+package Arkanoid.audio;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoundEventQueueTest {
+
+    private static List<String> drain(SoundEventQueue queue) {
+        List<String> played = new ArrayList<>();
+        queue.drain((id, volume, pan) -> played.add(id + " " + volume + " " + pan));
+        return played;
+    }
+
+    @Test
+    void testIdenticalCuesInAFrameAreMerged() {
+        SoundEventQueue queue = new SoundEventQueue();
+        for (int i = 0; i < 10; i++) {
+            queue.push(SoundId.EFFECT_BRICK, 0.5f, -1f);
+        }
+        queue.push(SoundId.EFFECT_BRICK, 1f, 1f);
+        queue.push(SoundId.EFFECT_WALL, 0.8f, 0f);
+
+        assertEquals(2, queue.size());
+        List<String> played = drain(queue);
+        assertEquals(2, played.size());
+        assertEquals("EFFECT_BRICK 1.0 " + (-9f / 11f), played.get(0), "Loudest volume, averaged pan");
+        assertEquals("EFFECT_WALL 0.8 0.0", played.get(1));
+    }
+
+    @Test
+    void testDrainEmptiesTheFrame() {
+        SoundEventQueue queue = new SoundEventQueue();
+        queue.push(SoundId.EFFECT_PADDLE, 1f, 0f);
+        assertEquals(1, drain(queue).size());
+
+        assertTrue(drain(queue).isEmpty());
+        queue.push(SoundId.EFFECT_PADDLE, 0.3f, 0.5f);
+        assertEquals(List.of("EFFECT_PADDLE 0.3 0.5"), drain(queue), "Next frame starts fresh");
+    }
+
+    @Test
+    void testKeepsFirstSeenOrder() {
+        SoundEventQueue queue = new SoundEventQueue();
+        queue.push(SoundId.EFFECT_SCORE, 1f, 0f);
+        queue.push(SoundId.EFFECT_WALL, 1f, 0f);
+        queue.push(SoundId.EFFECT_SCORE, 1f, 0f);
+
+        List<String> played = drain(queue);
+        assertTrue(played.get(0).startsWith("EFFECT_SCORE"));
+        assertTrue(played.get(1).startsWith("EFFECT_WALL"));
+    }
+}
@@ -0,0 +1,68 @@
+package Arkanoid.audio;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoundRegistryTest {
+
+    private static class FakeSound implements SoundInterface {
+        @Override public void play() { }
+        @Override public void stop() { }
+    }
+
+    @Test
+    void testAliasNamesFillTheTypedSlot() {
+        SoundRegistry registry = new SoundRegistry();
+        SoundInterface brick = new FakeSound();
+        registry.register("effect_brick", brick);
+
+        assertSame(brick, registry.get(SoundId.EFFECT_BRICK));
+        assertSame(brick, registry.get("effect_brick"));
+        assertEquals(SoundId.Group.EFFECT, registry.groupOf("effect_brick"));
+        assertNull(registry.get(SoundId.EFFECT_WALL));
+    }
+
+    @Test
+    void testCustomNamesAreGroupedByPrefix() {
+        SoundRegistry registry = new SoundRegistry();
+        SoundInterface laser = new FakeSound();
+        SoundInterface boss = new FakeSound();
+        registry.register("effect_laser", laser);
+        registry.register("boss_theme", boss);
+
+        assertSame(laser, registry.get("effect_laser"));
+        assertEquals(SoundId.Group.EFFECT, registry.groupOf("effect_laser"));
+        assertEquals(SoundId.Group.MUSIC, registry.groupOf("boss_theme"));
+        assertTrue(registry.getGroup(SoundId.Group.EFFECT).contains(laser));
+        assertTrue(registry.getGroup(SoundId.Group.MUSIC).contains(boss));
+        assertNull(registry.groupOf("unknown"));
+    }
+
+    @Test
+    void testReRegisteringReplacesTheGroupEntry() {
+        SoundRegistry registry = new SoundRegistry();
+        SoundInterface first = new FakeSound();
+        SoundInterface second = new FakeSound();
+        registry.register(SoundId.EFFECT_WALL, first);
+        registry.register("effect_wall", second);
+
+        assertSame(second, registry.get(SoundId.EFFECT_WALL));
+        assertEquals(1, registry.getGroup(SoundId.Group.EFFECT).size());
+        assertSame(second, registry.getGroup(SoundId.Group.EFFECT).get(0));
+        assertEquals(1, registry.getAll().size());
+    }
+
+    @Test
+    void testClearEmptiesEverySlot() {
+        SoundRegistry registry = new SoundRegistry();
+        registry.register(SoundId.AMBIENT_BG, new FakeSound());
+        registry.register("boss_theme", new FakeSound());
+        registry.clear();
+
+        assertNull(registry.get(SoundId.AMBIENT_BG));
+        assertNull(registry.get("boss_theme"));
+        assertTrue(registry.getNames().isEmpty());
+        assertTrue(registry.getGroup(SoundId.Group.AMBIENT).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package Arkanoid.audio;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VoicePoolTest {
+    private static final long FRAME = 16_000_000L;
+
+    /** Plays until stopped; no audio device needed. */
+    private static class FakeVoice implements Voice {
+        boolean playing;
+        int plays;
+
+        @Override public void play(double volume, double pan) { playing = true; plays++; }
+        @Override public void stop() { playing = false; }
+        @Override public boolean isPlaying() { return playing; }
+    }
+
+    private static FakeVoice[] voices(int n) {
+        FakeVoice[] voices = new FakeVoice[n];
+        for (int i = 0; i < n; i++) voices[i] = new FakeVoice();
+        return voices;
+    }
+
+    @Test
+    void testOverlappingTriggersUseFreeVoices() {
+        FakeVoice[] voices = voices(3);
+        VoicePool pool = new VoicePool(voices, new VoiceLimiter(16));
+
+        pool.trigger(0, 1.0, 0.0);
+        pool.trigger(FRAME, 1.0, 0.0);
+        assertTrue(voices[0].playing && voices[1].playing, "Second hit must not cut off the first");
+        assertFalse(voices[2].playing);
+    }
+
+    @Test
+    void testStealsOldestVoiceWhenFull() {
+        FakeVoice[] voices = voices(2);
+        VoicePool pool = new VoicePool(voices, new VoiceLimiter(16));
+
+        pool.trigger(0, 1.0, 0.0);
+        pool.trigger(FRAME, 1.0, 0.0);
+        pool.trigger(2 * FRAME, 1.0, 0.0);
+
+        assertEquals(2, voices[0].plays, "Oldest voice restarted");
+        assertEquals(1, voices[1].plays);
+    }
+
+    @Test
+    void testCapIsHonouredWhenStoppedVoicesKeepPlaying() {
+        // A voice that ignores stop() must not spin makeRoom() forever
+        Voice stuck = new Voice() {
+            @Override public void play(double volume, double pan) { }
+            @Override public void stop() { }
+            @Override public boolean isPlaying() { return true; }
+        };
+        VoicePool pool = new VoicePool(new Voice[] {stuck, stuck}, new VoiceLimiter(1));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> pool.trigger(0, 1.0, 0.0));
+    }
+
+    @Test
+    void testGlobalCapStealsAcrossPools() {
+        VoiceLimiter limiter = new VoiceLimiter(2);
+        FakeVoice[] brick = voices(4);
+        FakeVoice[] wall = voices(4);
+        VoicePool brickPool = new VoicePool(brick, limiter);
+        VoicePool wallPool = new VoicePool(wall, limiter);
+
+        brickPool.trigger(0, 1.0, 0.0);
+        brickPool.trigger(FRAME, 1.0, 0.0);
+        wallPool.trigger(2 * FRAME, 1.0, 0.0);
+
+        assertEquals(2, limiter.activeVoices());
+        assertFalse(brick[0].playing, "Globally oldest voice was stolen");
+        assertTrue(brick[1].playing);
+        assertTrue(wall[0].playing);
+    }
+}
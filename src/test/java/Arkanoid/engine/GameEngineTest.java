@@ -0,0 +1,192 @@
+package Arkanoid.engine;
+
+import Arkanoid.audio.SoundId;
+import Arkanoid.level.LevelManager;
+import Arkanoid.model.Ball;
+import Arkanoid.model.GameState;
+import Arkanoid.util.AssetLoader;
+import Arkanoid.util.Constants;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the simulation core without any JavaFX toolkit or audio.
+ */
+public class GameEngineTest {
+
+    private GameEngine newEngine(long seed, SoundSink sink) {
+        LevelManager levelManager = new LevelManager();
+        levelManager.loadLevels(1);
+        return new GameEngine(levelManager, sink, new Random(seed));
+    }
+
+    /** Steps the engine with a paddle that tracks the first ball. */
+    private void play(GameEngine engine, int steps) {
+        for (int i = 0; i < steps && engine.getCurrentState() == GameState.PLAYING; i++) {
+            if (!engine.getBalls().isEmpty()) {
+                Ball ball = engine.getBalls().get(0);
+                double paddleCenter = engine.getPaddle().getCenterX();
+                engine.getPaddle().setMovingLeft(ball.getCenterX() < paddleCenter - 10);
+                engine.getPaddle().setMovingRight(ball.getCenterX() > paddleCenter + 10);
+            }
+            engine.launchBall();
+            engine.update(Constants.FIXED_TIMESTEP);
+        }
+    }
+
+    @Test
+    void testRunsHeadless() {
+        List<String> sounds = new ArrayList<>();
+        GameEngine engine = newEngine(42, (id, volume, pan) -> sounds.add(id.getAlias()));
+        engine.startGame();
+        assertEquals(GameState.PLAYING, engine.getCurrentState());
+
+        play(engine, 20_000);
+
+        assertTrue(engine.getScoreManager().getScore() > 0, "Ball should have broken some bricks");
+        assertTrue(sounds.contains("effect_brick"));
+        assertTrue(engine.getSimTimeMillis() > 0);
+    }
+
+    @Test
+    void testSeededRunsAreDeterministic() {
+        GameEngine first = newEngine(7, SoundSink.NONE);
+        GameEngine second = newEngine(7, SoundSink.NONE);
+        first.startGame();
+        second.startGame();
+
+        play(first, 10_000);
+        play(second, 10_000);
+
+        assertEquals(first.getScoreManager().getScore(), second.getScoreManager().getScore());
+        assertEquals(first.getBricks().size(), second.getBricks().size());
+        assertEquals(first.getCurrentState(), second.getCurrentState());
+    }
+
+    @Test
+    void testPauseFreezesSimulation() {
+        GameEngine engine = newEngine(1, SoundSink.NONE);
+        engine.startGame();
+        engine.launchBall();
+        engine.update(Constants.FIXED_TIMESTEP);
+
+        engine.pauseGame();
+        double y = engine.getBalls().get(0).getY();
+        double time = engine.getSimTimeMillis();
+        engine.update(Constants.FIXED_TIMESTEP);
+
+        assertEquals(y, engine.getBalls().get(0).getY());
+        assertEquals(time, engine.getSimTimeMillis());
+    }
+
+    @Test
+    void testSnapshotCopiesWorldState() {
+        GameEngine engine = newEngine(3, SoundSink.NONE);
+        engine.startGame();
+        engine.launchBall();
+        engine.update(Constants.FIXED_TIMESTEP);
+
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.capture(engine, Constants.FIXED_TIMESTEP);
+        Ball ball = engine.getBalls().get(0);
+        double capturedY = ball.getY();
+
+        assertEquals(GameState.PLAYING, snapshot.getState());
+        assertEquals(engine.getBalls().size(), snapshot.getBallCount());
+        assertEquals(capturedY, snapshot.getBallRenderY(0, 1.0));
+        assertEquals(engine.getBrickStore().size(), snapshot.getBrickCount());
+        assertEquals(engine.getScoreManager().getLives(), snapshot.getLives());
+
+        engine.update(Constants.FIXED_TIMESTEP);
+        assertNotEquals(capturedY, ball.getY());
+        assertEquals(capturedY, snapshot.getBallRenderY(0, 1.0), "Snapshot must not follow live entities");
+    }
+
+    @Test
+    void testEmitsFlightRecorderEvents(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("arkanoid.LevelLoad");
+            recording.enable("arkanoid.CollisionPass");
+            recording.enable("arkanoid.BrickDestroyed");
+            recording.start();
+
+            GameEngine engine = newEngine(42, SoundSink.NONE);
+            engine.startGame();
+            play(engine, 20_000);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> names = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            names.add(event.getEventType().getName());
+        }
+        assertTrue(names.contains("arkanoid.LevelLoad"));
+        assertTrue(names.contains("arkanoid.CollisionPass"));
+        assertTrue(names.contains("arkanoid.BrickDestroyed"));
+    }
+
+    @Test
+    void testEmitsTypedSoundCuesWithPan() {
+        List<SoundId> ids = new ArrayList<>();
+        List<Float> pans = new ArrayList<>();
+        GameEngine engine = newEngine(42, (id, volume, pan) -> {
+            ids.add(id);
+            pans.add(pan);
+        });
+        engine.startGame();
+        play(engine, 20_000);
+
+        assertTrue(ids.contains(SoundId.EFFECT_BRICK));
+        assertTrue(ids.contains(SoundId.EFFECT_PADDLE));
+        for (float pan : pans) {
+            assertTrue(pan >= -1f && pan <= 1f, "Pan out of range: " + pan);
+        }
+    }
+
+    @Test
+    void testStartsWithoutALevelUntilTheCatalogArrives() {
+        LevelManager levelManager = new LevelManager();
+        GameEngine engine = new GameEngine(levelManager, SoundSink.NONE, new Random(1));
+        assertNull(engine.getCurrentLevel());
+        assertTrue(engine.getBricks().isEmpty(), "No legacy grid built for an empty catalog");
+
+        levelManager.loadLevels(1);
+        engine.startGame();
+        assertEquals(GameState.PLAYING, engine.getCurrentState());
+        assertNotNull(engine.getCurrentLevel());
+    }
+
+    @Test
+    @Timeout(5)
+    void testWaitsForPrefetchedLevelInLoadingState() throws Exception {
+        AssetLoader loader = new AssetLoader(1);
+        LevelManager levelManager = new LevelManager();
+        levelManager.setPrefetcher(loader);
+        GameEngine engine = new GameEngine(levelManager, SoundSink.NONE, new Random(1));
+        levelManager.loadLevels(2);
+
+        engine.startGame();
+        // Either the prefetch already finished or the engine waits in LOADING; it never blocks
+        while (engine.getCurrentState() == GameState.LOADING) {
+            engine.update(Constants.FIXED_TIMESTEP);
+            Thread.sleep(1);
+        }
+        assertEquals(GameState.PLAYING, engine.getCurrentState());
+        assertEquals(1, engine.getCurrentLevel().getLevelNumber());
+        loader.shutdown();
+    }
+}
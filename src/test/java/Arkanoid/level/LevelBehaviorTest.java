@@ -118,4 +118,37 @@ public class LevelBehaviorTest {
         assertEquals(99, level.getLevelNumber());
         assertEquals("JUnit Level", level.getLevelName());
     }
+
+    @Test
+    void testOnlyMovingBricksAreActive() {
+        LevelData ld = makeSampleLevelData();
+        LevelData.BrickData mover = new LevelData.BrickData(1, 0, "NORMAL", "#00FF00");
+        mover.setMoving(true);
+        ld.getBricks().add(mover);
+
+        Level level = new Level(ld);
+        level.initialize();
+        assertEquals(4, level.getBricks().size());
+        assertEquals(1, level.getActiveEntities().size());
+
+        // Re-initializing must not register the moving brick twice
+        level.reset();
+        assertEquals(1, level.getActiveEntities().size());
+    }
+
+    @Test
+    void testRemainingCounterMatchesScan() {
+        Level level = new Level(makeSampleLevelData());
+        level.initialize();
+
+        Brick normal = level.getBricks().get(0);
+        assertTrue(normal.hit());
+        normal.hit(); // hitting an already destroyed brick must not count twice
+        assertEquals(1, level.getRemainingBricks());
+        assertEquals(level.scanRemainingBricks(), level.getRemainingBricks());
+
+        level.reset();
+        assertEquals(2, level.getRemainingBricks());
+        assertEquals(level.scanRemainingBricks(), level.getRemainingBricks());
+    }
 }
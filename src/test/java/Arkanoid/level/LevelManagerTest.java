@@ -0,0 +1,105 @@
+package Arkanoid.level;
+
+import Arkanoid.util.AssetLoader;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelManagerTest {
+
+    @Test
+    void testReadInfoCountsBricksWithoutBuildingThem() throws Exception {
+        String json = "{\"levelNumber\": 7, \"name\": \"Wall\", \"ballSpeed\": 5.0,"
+                + " \"bricks\": [{\"row\": 0, \"col\": 0}, {\"row\": 0, \"col\": 1, \"moving\": true}],"
+                + " \"backgroundImage\": null}";
+        LevelInfo info = LevelLoader.readInfo(7, new JsonReader(new StringReader(json)));
+
+        assertEquals(7, info.getLevelNumber());
+        assertEquals("Wall", info.getName());
+        assertEquals(2, info.getBrickCount());
+    }
+
+    @Test
+    void testReadInfoMatchesFullLoad() {
+        LevelInfo info = LevelLoader.readInfo(1);
+        LevelData data = LevelLoader.loadLevel(1);
+        assertNotNull(info);
+        assertEquals(data.getName(), info.getName());
+        assertEquals(data.getBricks().size(), info.getBrickCount());
+    }
+
+    @Test
+    void testLevelsAreBuiltOnFirstUseAndReleasedAfter() {
+        LevelManager manager = new LevelManager();
+        manager.loadLevels(3);
+
+        assertEquals(3, manager.getTotalLevels());
+        assertNotNull(manager.getLevelInfo(2));
+        assertFalse(manager.isLevelResident(1), "Only the catalog is read up front");
+
+        Level first = manager.getCurrentLevel();
+        assertNotNull(first);
+        assertTrue(manager.isLevelResident(1));
+        assertFalse(manager.isLevelResident(2), "No prefetcher, nothing built ahead");
+
+        assertTrue(manager.nextLevel());
+        Level second = manager.getCurrentLevel();
+        assertEquals(2, second.getLevelNumber());
+        assertFalse(manager.isLevelResident(1), "Levels left behind are released");
+        assertSame(second, manager.getCurrentLevel());
+    }
+
+    @Test
+    void testNextLevelIsPrefetched() {
+        AssetLoader loader = new AssetLoader(1);
+        LevelManager manager = new LevelManager();
+        manager.setPrefetcher(loader);
+        manager.loadLevels(3);
+        assertTrue(manager.isLevelResident(1), "First level starts building with the catalog");
+
+        manager.getCurrentLevel();
+        assertTrue(manager.isLevelResident(2));
+        assertFalse(manager.isLevelResident(3));
+
+        manager.nextLevel();
+        assertEquals(2, manager.getCurrentLevel().getLevelNumber());
+        assertTrue(manager.isLevelResident(3));
+        loader.shutdown();
+    }
+
+    @Test
+    @Timeout(5)
+    void testCurrentLevelIsReadyOnceThePrefetchFinished() throws Exception {
+        AssetLoader loader = new AssetLoader(1);
+        LevelManager manager = new LevelManager();
+        manager.setPrefetcher(loader);
+        manager.loadLevels(2);
+
+        while (!manager.isCurrentLevelReady()) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, manager.getCurrentLevel().getLevelNumber());
+        loader.shutdown();
+    }
+
+    @Test
+    void testAddedLevelsStayResident() {
+        LevelManager manager = new LevelManager();
+        List<LevelData.BrickData> bricks = new ArrayList<>();
+        bricks.add(new LevelData.BrickData(0, 0, "NORMAL", "#FF0000"));
+        manager.addLevel(new Level(new LevelData(1, "Generated", bricks)));
+        manager.addLevel(new Level(new LevelData(2, "Generated 2", bricks)));
+        manager.addLevel(new Level(new LevelData(3, "Generated 3", bricks)));
+
+        manager.selectLevel(3);
+        manager.getCurrentLevel();
+        assertTrue(manager.isLevelResident(1), "Generated levels cannot be rebuilt, so they are kept");
+        assertEquals(1, manager.getLevelInfo(3).getBrickCount());
+    }
+}
@@ -0,0 +1,101 @@
+package Arkanoid.manager;
+
+import Arkanoid.model.Ball;
+import Arkanoid.model.Brick;
+import Arkanoid.model.BrickType;
+import Arkanoid.model.MovingBrick;
+import Arkanoid.model.Paddle;
+import Arkanoid.util.Constants;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrickGridTest {
+
+    private Brick brickAt(int row, int col) {
+        double x = Constants.BRICK_OFFSET_X + col * (Constants.BRICK_WIDTH + Constants.BRICK_PADDING);
+        double y = Constants.BRICK_OFFSET_Y + row * (Constants.BRICK_HEIGHT + Constants.BRICK_PADDING);
+        return new Brick(x, y, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT, BrickType.NORMAL, Color.RED);
+    }
+
+    @Test
+    void testQueryReturnsOnlyNearbyBricks() {
+        List<Brick> bricks = new ArrayList<>();
+        for (int row = 0; row < Constants.BRICK_ROWS; row++) {
+            for (int col = 0; col < Constants.BRICK_COLS; col++) {
+                bricks.add(brickAt(row, col));
+            }
+        }
+        BrickGrid grid = new BrickGrid();
+        grid.rebuild(bricks);
+        assertEquals(bricks.size(), grid.size());
+
+        Brick target = bricks.get(3 * Constants.BRICK_COLS + 4);
+        List<Brick> out = new ArrayList<>();
+        grid.query(target.getX() + 10, target.getY() + 5, 5, 5, out);
+
+        assertEquals(1, out.size());
+        assertSame(target, out.get(0));
+    }
+
+    @Test
+    void testRemovedBrickIsNoLongerReturned() {
+        Brick brick = brickAt(0, 0);
+        BrickGrid grid = new BrickGrid();
+        grid.insert(brick);
+        grid.remove(brick);
+
+        List<Brick> out = new ArrayList<>();
+        grid.query(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight(), out);
+        assertTrue(out.isEmpty());
+        assertFalse(grid.contains(brick));
+    }
+
+    @Test
+    void testMovingBrickIsReindexedAndNotDuplicated() {
+        MovingBrick brick = new MovingBrick(
+                Constants.BRICK_OFFSET_X, Constants.BRICK_OFFSET_Y,
+                Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT,
+                BrickType.NORMAL, Color.RED, MovingBrick.Axis.HORIZONTAL, 100, 200);
+        BrickGrid grid = new BrickGrid();
+        grid.insert(brick);
+
+        // Move half a cell to the right so the brick straddles two columns
+        brick.update(0.5);
+        grid.update(brick);
+
+        List<Brick> out = new ArrayList<>();
+        grid.query(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, out);
+        assertEquals(1, out.size());
+
+        // Query right of the original cell must now find it
+        grid.query(brick.getX() + brick.getWidth() - 1, brick.getY(), 1, 1, out);
+        assertEquals(1, out.size());
+    }
+
+    @Test
+    void testCollisionManagerUsesGridBroadphase() {
+        List<Brick> bricks = new ArrayList<>();
+        bricks.add(brickAt(0, 0));
+        bricks.add(brickAt(5, 5));
+        BrickGrid grid = new BrickGrid();
+        grid.rebuild(bricks);
+
+        Ball ball = new Ball(new Paddle());
+        ball.setStuck(false);
+        Brick target = bricks.get(1);
+        ball.setX(target.getCenterX() - ball.getWidth() / 2);
+        ball.setY(target.getY() + target.getHeight() - 2);
+        ball.setSmoothX(ball.getX());
+        ball.setSmoothY(ball.getY());
+        ball.setVelocityY(-5);
+
+        Brick hit = new CollisionManager().checkBallBrickCollision(ball, grid);
+        assertSame(target, hit);
+        assertTrue(ball.getVelocityY() > 0);
+    }
+}
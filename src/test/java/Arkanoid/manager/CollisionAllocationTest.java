@@ -0,0 +1,91 @@
+package Arkanoid.manager;
+
+import Arkanoid.model.Ball;
+import Arkanoid.model.Brick;
+import Arkanoid.model.BrickType;
+import Arkanoid.model.GameObject;
+import Arkanoid.model.Paddle;
+import Arkanoid.model.PowerUps;
+import Arkanoid.model.PowerUpType;
+import Arkanoid.util.Constants;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the per-frame collision path (broadphase query, ball/brick, ball/paddle and
+ * paddle/power-up tests) does not allocate once warmed up.
+ */
+public class CollisionAllocationTest {
+
+    @Test
+    void testOverlapsMatchesBoundsSemantics() {
+        assertTrue(GameObject.overlaps(0, 0, 10, 10, 5, 5, 10, 10));
+        // Touching edges count as overlapping, like javafx Bounds.intersects
+        assertTrue(GameObject.overlaps(0, 0, 10, 10, 10, 0, 10, 10));
+        assertFalse(GameObject.overlaps(0, 0, 10, 10, 10.5, 0, 10, 10));
+        assertFalse(GameObject.overlaps(0, 0, 10, 10, 0, -20, 10, 10));
+    }
+
+    @Test
+    void testCollisionPassAllocatesNothingPerFrame() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        List<Brick> bricks = new ArrayList<>();
+        for (int row = 0; row < Constants.BRICK_ROWS; row++) {
+            for (int col = 0; col < Constants.BRICK_COLS; col++) {
+                double x = Constants.BRICK_OFFSET_X + col * (Constants.BRICK_WIDTH + Constants.BRICK_PADDING);
+                double y = Constants.BRICK_OFFSET_Y + row * (Constants.BRICK_HEIGHT + Constants.BRICK_PADDING);
+                // Unbreakable so the layout stays intact for every frame
+                bricks.add(new Brick(x, y, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT,
+                        BrickType.UNBREAKABLE, Color.GRAY));
+            }
+        }
+        BrickGrid grid = new BrickGrid();
+        grid.rebuild(bricks);
+
+        Paddle paddle = new Paddle();
+        Ball ball = new Ball(paddle);
+        ball.setStuck(false);
+        List<PowerUps> powerUps = new ArrayList<>();
+        powerUps.add(new PowerUps(0, 0, PowerUpType.EXPAND_PADDLE));
+        CollisionManager collisionManager = new CollisionManager();
+
+        runFrames(collisionManager, grid, ball, paddle, powerUps, 20_000);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        runFrames(collisionManager, grid, ball, paddle, powerUps, 10_000);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        // Allow a little slack for the measurement call itself
+        assertTrue(allocated < 1024, "Collision pass allocated " + allocated + " bytes over 10000 frames");
+    }
+
+    private void runFrames(CollisionManager collisionManager, BrickGrid grid, Ball ball, Paddle paddle,
+                           List<PowerUps> powerUps, int frames) {
+        for (int i = 0; i < frames; i++) {
+            // Sweep the ball across the brick field without touching walls or the paddle
+            double x = 20 + (i * 7) % (Constants.WINDOW_WIDTH - 60);
+            double y = 40 + (i * 3) % 200;
+            ball.setX(x);
+            ball.setY(y);
+            ball.setSmoothX(x);
+            ball.setSmoothY(y);
+            ball.setVelocityX(3);
+            ball.setVelocityY(-3);
+            collisionManager.checkBallPaddleCollision(ball, paddle);
+            collisionManager.checkBallBrickCollision(ball, grid);
+            collisionManager.checkPaddlePowerUpCollision(paddle, powerUps);
+        }
+    }
+}
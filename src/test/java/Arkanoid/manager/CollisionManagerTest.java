@@ -0,0 +1,117 @@
+package Arkanoid.manager;
+
+import Arkanoid.model.Ball;
+import Arkanoid.model.Brick;
+import Arkanoid.model.BrickType;
+import Arkanoid.model.Paddle;
+import Arkanoid.util.Constants;
+import Arkanoid.util.FrameMetrics;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionManagerTest {
+
+    private Ball freeBall(Paddle paddle, double x, double y, double vx, double vy) {
+        Ball ball = new Ball(paddle);
+        ball.setStuck(false);
+        ball.setX(x);
+        ball.setY(y);
+        ball.setSmoothX(x);
+        ball.setSmoothY(y);
+        ball.setVelocityX(vx);
+        ball.setVelocityY(vy);
+        return ball;
+    }
+
+    @Test
+    void testSweepFindsTimeOfImpact() {
+        CollisionManager.Sweep out = new CollisionManager.Sweep();
+        // 10x10 box moving 100px right toward a box 40px away
+        assertTrue(CollisionManager.sweep(0, 0, 10, 10, 100, 0, 50, 0, 10, 10, out));
+        assertEquals(0.4, out.time, 1e-9);
+        assertTrue(out.xAxis);
+
+        // Moving away or grazing along an edge is not a hit
+        assertFalse(CollisionManager.sweep(0, 0, 10, 10, -100, 0, 50, 0, 10, 10, out));
+        assertFalse(CollisionManager.sweep(0, 0, 10, 10, 100, 0, 50, 10, 10, 10, out));
+    }
+
+    @Test
+    void testFastBallDoesNotTunnelThroughBrick() {
+        Paddle paddle = new Paddle();
+        // Thin brick the ball would skip over entirely in one discrete step
+        Brick brick = new Brick(300, 230, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT, BrickType.NORMAL, Color.RED);
+        BrickGrid grid = new BrickGrid();
+        grid.insert(brick);
+
+        // 0.05s at -40 px/tick moves 120px: from y=300 to y=180, past the brick at 230..250
+        Ball ball = freeBall(paddle, 320, 300, 0, -40);
+        List<Brick> hits = new ArrayList<>();
+        int contacts = new CollisionManager().moveBall(ball, 0.05, paddle, grid, hits::add);
+
+        assertEquals(1, contacts);
+        assertEquals(List.of(brick), hits);
+        assertTrue(ball.getVelocityY() > 0, "Ball should bounce back down");
+        assertTrue(ball.getY() >= brick.getY() + brick.getHeight(), "Ball must stay below the brick");
+    }
+
+    @Test
+    void testFastBallDoesNotTunnelThroughPaddle() {
+        Paddle paddle = new Paddle();
+        BrickGrid grid = new BrickGrid();
+
+        // Ball above the paddle moving down fast enough to end up below it
+        Ball ball = freeBall(paddle, paddle.getCenterX() - Constants.BALL_RADIUS, 500, 0, 40);
+        int contacts = new CollisionManager().moveBall(ball, 0.05, paddle, grid, null);
+
+        assertEquals(1, contacts);
+        assertTrue(ball.getVelocityY() < 0);
+        assertTrue(ball.getY() + ball.getHeight() < paddle.getY());
+    }
+
+    @Test
+    void testMultipleContactsWithinOneTick() {
+        Paddle paddle = new Paddle();
+        // A corridor: brick above and brick below, ball bouncing between them in one tick
+        Brick top = new Brick(300, 100, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT, BrickType.UNBREAKABLE, Color.GRAY);
+        Brick bottom = new Brick(300, 150, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT, BrickType.UNBREAKABLE, Color.GRAY);
+        BrickGrid grid = new BrickGrid();
+        grid.insert(top);
+        grid.insert(bottom);
+
+        // Gap is 30px, ball is 24px: 6px of free travel each way
+        Ball ball = freeBall(paddle, 320, 123, 0, -10);
+        List<Brick> hits = new ArrayList<>();
+        int contacts = new CollisionManager().moveBall(ball, 1.0 / 60.0, paddle, grid, hits::add);
+
+        assertEquals(2, contacts);
+        assertEquals(List.of(top, bottom), hits);
+        assertTrue(ball.getY() > top.getY() + top.getHeight());
+        assertTrue(ball.getY() + ball.getHeight() < bottom.getY());
+    }
+
+    @Test
+    void testBricksTestedIsOneSamplePerBall() {
+        Paddle paddle = new Paddle();
+        BrickGrid grid = new BrickGrid();
+        grid.insert(new Brick(300, 230, Constants.BRICK_WIDTH, Constants.BRICK_HEIGHT, BrickType.NORMAL, Color.RED));
+        Ball ball = freeBall(paddle, 320, 300, 0, -40);
+        CollisionManager collisionManager = new CollisionManager();
+        FrameMetrics metrics = FrameMetrics.getInstance();
+        metrics.reset();
+
+        // Swept move plus the overlap fallback, as the engine runs them for one ball
+        collisionManager.moveBall(ball, 0.05, paddle, grid, null);
+        collisionManager.checkBallBrickCollision(ball, grid);
+        assertEquals(0, metrics.size(FrameMetrics.Metric.BRICKS_TESTED));
+
+        collisionManager.recordBricksTested();
+        assertEquals(1, metrics.size(FrameMetrics.Metric.BRICKS_TESTED));
+        assertTrue(metrics.max(FrameMetrics.Metric.BRICKS_TESTED) >= 1);
+    }
+}
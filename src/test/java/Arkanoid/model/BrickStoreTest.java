@@ -0,0 +1,125 @@
+package Arkanoid.model;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrickStoreTest {
+
+    private Brick brick(double x, BrickType type) {
+        return new Brick(x, 10, 50, 20, type, Color.RED);
+    }
+
+    private MovingBrick movingBrick(double x) {
+        return new MovingBrick(x, 10, 50, 20, BrickType.NORMAL, Color.RED,
+                MovingBrick.Axis.HORIZONTAL, 100, 40);
+    }
+
+    @Test
+    void testArraysMirrorBrickState() {
+        BrickStore store = new BrickStore();
+        Brick hard = brick(0, BrickType.HARD);
+        store.add(hard);
+
+        assertEquals(0, store.getX(0));
+        assertEquals(BrickType.HARD, store.getType(0));
+        assertEquals(hard.getHitsRemaining(), store.getHitsRemaining(0));
+
+        hard.hit();
+        assertTrue(store.hasFlag(0, BrickStore.FLAG_DAMAGED));
+        assertEquals(hard.getHitsRemaining(), store.getHitsRemaining(0));
+
+        hard.setX(25);
+        assertEquals(25, store.getX(0));
+    }
+
+    @Test
+    void testMovingBrickWritesThrough() {
+        BrickStore store = new BrickStore();
+        store.add(brick(0, BrickType.NORMAL));
+        MovingBrick mover = movingBrick(100);
+        store.add(mover);
+
+        assertFalse(store.hasFlag(0, BrickStore.FLAG_MOVING));
+        assertTrue(store.hasFlag(1, BrickStore.FLAG_MOVING));
+
+        mover.update(0.1);
+        assertEquals(mover.getX(), store.getX(1));
+    }
+
+    @Test
+    void testRemoveSwapsLastIntoSlot() {
+        BrickStore store = new BrickStore();
+        Brick a = brick(0, BrickType.NORMAL);
+        Brick b = brick(60, BrickType.NORMAL);
+        MovingBrick c = movingBrick(120);
+        store.rebuild(List.of(a, b, c));
+
+        assertTrue(store.remove(a));
+        assertFalse(store.remove(a));
+        assertEquals(List.of(c, b), store.asList());
+        assertEquals(120, store.getX(0));
+        assertTrue(store.hasFlag(0, BrickStore.FLAG_MOVING));
+
+        // The moved brick keeps writing into its new slot
+        c.setX(130);
+        assertEquals(130, store.getX(0));
+
+        // A removed brick no longer writes into the store
+        a.setX(500);
+        assertEquals(130, store.getX(0));
+        assertEquals(60, store.getX(1));
+    }
+
+    @Test
+    void testGrowsPastInitialCapacity() {
+        BrickStore store = new BrickStore();
+        for (int i = 0; i < 200; i++) {
+            store.add(brick(i, BrickType.NORMAL));
+        }
+        assertEquals(200, store.size());
+        assertEquals(199, store.getX(199));
+    }
+
+    @Test
+    void testDirtyRegionsReportStaticChangesOnly() {
+        BrickStore store = new BrickStore();
+        Brick hard = brick(0, BrickType.HARD);
+        MovingBrick mover = movingBrick(100);
+        store.add(hard);
+        store.add(mover);
+
+        long layout = store.getLayoutVersion();
+        assertTrue(layout > 0, "A fresh layout must differ from the renderer's unpainted state");
+
+        mover.update(0.1);
+        mover.hit();
+        assertEquals(0, store.getDirtySeq(), "Moving bricks are drawn live, not through the layer");
+
+        hard.hit();
+        assertEquals(1, store.getDirtySeq());
+        assertEquals(layout, store.getLayoutVersion(), "A hit is a dirty region, not a new layout");
+        double[] ring = new double[BrickStore.DIRTY_RING_SIZE * 4];
+        store.copyDirtyRing(ring);
+        assertArrayEquals(new double[]{0, 10, 50, 20}, java.util.Arrays.copyOfRange(ring, 0, 4));
+    }
+
+    @Test
+    void testRemovingADestroyedBrickIsOneDirtyRegion() {
+        BrickStore store = new BrickStore();
+        Brick normal = brick(0, BrickType.NORMAL);
+        Brick other = brick(100, BrickType.NORMAL);
+        store.add(normal);
+        store.add(other);
+
+        assertTrue(normal.hit());
+        store.remove(normal);
+        assertEquals(1, store.getDirtySeq(), "Destroying and removing the same brick repaints once");
+
+        store.remove(other);
+        assertEquals(2, store.getDirtySeq(), "Removing a live brick still repaints its cell");
+    }
+}
@@ -0,0 +1,61 @@
+package Arkanoid.util;
+
+import Arkanoid.model.Tickable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActiveListTest {
+
+    private static class Counter implements Tickable {
+        int activeIndex = -1;
+
+        @Override public void update(double deltaTime) { }
+        @Override public int getActiveIndex() { return activeIndex; }
+        @Override public void setActiveIndex(int index) { activeIndex = index; }
+    }
+
+    @Test
+    void testRemoveSwapsLastIntoHole() {
+        ActiveList<Counter> list = new ActiveList<>();
+        Counter a = new Counter(), b = new Counter(), c = new Counter();
+        list.add(a);
+        list.add(b);
+        list.add(c);
+
+        assertTrue(list.remove(a));
+        assertEquals(2, list.size());
+        assertSame(c, list.get(0));
+        assertEquals(0, c.getActiveIndex());
+        assertEquals(-1, a.getActiveIndex());
+        assertFalse(list.remove(a));
+    }
+
+    @Test
+    void testDuplicateAddIsIgnored() {
+        ActiveList<Counter> list = new ActiveList<>();
+        Counter a = new Counter(), b = new Counter();
+        list.add(a);
+        list.add(a);
+        list.add(b);
+        list.remove(b);
+
+        assertEquals(1, list.size());
+        assertSame(a, list.get(0));
+    }
+
+    @Test
+    void testGrowsAndClears() {
+        ActiveList<Counter> list = new ActiveList<>();
+        Counter[] counters = new Counter[40];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counter();
+            list.add(counters[i]);
+        }
+        assertEquals(40, list.size());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(-1, counters[39].getActiveIndex());
+    }
+}
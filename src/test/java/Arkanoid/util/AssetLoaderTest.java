@@ -0,0 +1,72 @@
+package Arkanoid.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetLoaderTest {
+
+    @Test
+    @Timeout(5)
+    void testTasksRunInParallel() throws Exception {
+        AssetLoader loader = new AssetLoader(2);
+        // Both tasks must be running at the same time to get past the barrier
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        CompletableFuture<String> a = loader.submit("a", () -> { barrier.await(); return "a"; });
+        CompletableFuture<String> b = loader.submit("b", () -> { barrier.await(); return "b"; });
+
+        assertEquals("a", a.get(2, TimeUnit.SECONDS));
+        assertEquals("b", b.get(2, TimeUnit.SECONDS));
+        assertEquals(1.0, loader.getProgress());
+        assertTrue(loader.isDone());
+        loader.shutdown();
+    }
+
+    @Test
+    @Timeout(5)
+    void testMenuReadyDoesNotWaitForOtherAssets() throws Exception {
+        AssetLoader loader = new AssetLoader(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> slow = loader.submit("slow", () -> { release.await(); return 1; });
+        loader.submitForMenu("menu", () -> 2);
+
+        loader.menuReady().get(2, TimeUnit.SECONDS);
+        assertFalse(slow.isDone());
+        assertEquals(0.5, loader.getProgress());
+        assertFalse(loader.isDone());
+
+        release.countDown();
+        assertEquals(1, slow.get(2, TimeUnit.SECONDS));
+        assertEquals(1.0, loader.getProgress());
+        loader.shutdown();
+    }
+
+    @Test
+    @Timeout(5)
+    void testFailedTaskCountsAsFinished() throws Exception {
+        AssetLoader loader = new AssetLoader(1);
+        CompletableFuture<Object> broken = loader.submitForMenu("broken", () -> {
+            throw new IllegalStateException("bad file");
+        });
+
+        loader.menuReady().get(2, TimeUnit.SECONDS);
+        assertTrue(broken.isCompletedExceptionally());
+        assertEquals(1, loader.getFailedCount());
+        assertTrue(loader.isDone());
+        loader.shutdown();
+    }
+
+    @Test
+    void testNothingSubmittedIsReady() {
+        AssetLoader loader = new AssetLoader(1);
+        assertEquals(1.0, loader.getProgress());
+        assertTrue(loader.menuReady().isDone());
+        loader.shutdown();
+    }
+}
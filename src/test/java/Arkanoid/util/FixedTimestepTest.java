@@ -0,0 +1,27 @@
+package Arkanoid.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedTimestepTest {
+
+    @Test
+    void testStallCatchUpIsCapped() {
+        FixedTimestep timestep = new FixedTimestep(Constants.FIXED_TIMESTEP, Constants.MAX_FRAME_TIME);
+
+        // A one-second hitch must not turn into a burst of 120 simulation steps
+        int steps = timestep.advance(1.0);
+        assertTrue(steps <= 12, "Catch-up after a stall was " + steps + " steps");
+        assertTrue(timestep.getAlpha() < 1.0);
+    }
+
+    @Test
+    void testRegularFramesCarryTheRemainder() {
+        FixedTimestep timestep = new FixedTimestep(0.25, 1.0);
+
+        assertEquals(1, timestep.advance(0.375));
+        assertEquals(0.5, timestep.getAlpha(), 1e-9);
+        assertEquals(2, timestep.advance(0.375));
+    }
+}
@@ -0,0 +1,67 @@
+package Arkanoid.util;
+
+import Arkanoid.util.FrameMetrics.Metric;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameMetricsTest {
+
+    @Test
+    void testPercentilesOverWindow() {
+        FrameMetrics metrics = new FrameMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.record(Metric.BRICKS_TESTED, i);
+        }
+
+        assertEquals(50, metrics.percentile(Metric.BRICKS_TESTED, 50));
+        assertEquals(99, metrics.percentile(Metric.BRICKS_TESTED, 99));
+        assertEquals(100, metrics.max(Metric.BRICKS_TESTED));
+        assertEquals(0, metrics.max(Metric.SOUNDS), "Empty metric reports 0");
+    }
+
+    @Test
+    void testWindowDropsOldestSamples() {
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.record(Metric.RENDER, 1_000_000_000L); // one huge early spike
+        for (int i = 0; i < FrameMetrics.WINDOW; i++) {
+            metrics.record(Metric.RENDER, 1_000_000L);
+        }
+
+        assertEquals(FrameMetrics.WINDOW, metrics.size(Metric.RENDER));
+        assertEquals(1_000_000L, metrics.max(Metric.RENDER), "Spike rolled out of the window");
+    }
+
+    @Test
+    void testEndFrameRecordsSounds() {
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.countSound();
+        metrics.countSound();
+        metrics.endFrame();
+        metrics.endFrame();
+
+        assertEquals(2, metrics.size(Metric.SOUNDS));
+        assertEquals(2, metrics.max(Metric.SOUNDS));
+        assertEquals(1, metrics.size(Metric.GC), "First frame only primes the GC baseline");
+    }
+
+    @Test
+    void testCsvExportInOrderWithSummary() throws IOException {
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.record(Metric.UPDATE, 2_500_000L);
+        metrics.record(Metric.UPDATE, 500_000L);
+        metrics.record(Metric.SOUNDS, 3);
+
+        StringWriter out = new StringWriter();
+        metrics.writeCsv(out);
+        String csv = out.toString();
+
+        assertTrue(csv.startsWith("metric,sample,value\n"));
+        assertTrue(csv.contains("UPDATE,0,2.500\nUPDATE,1,0.500\n"), csv);
+        assertTrue(csv.contains("SOUNDS,0,3\n"), csv);
+        assertTrue(csv.contains("UPDATE,max,2.500\n"), csv);
+    }
+}
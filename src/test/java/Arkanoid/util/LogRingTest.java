@@ -0,0 +1,88 @@
+package Arkanoid.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogRingTest {
+
+    private static List<String> drain(LogRing ring) {
+        List<String> out = new ArrayList<>();
+        ring.drain((time, level, thread, message, error) -> out.add(level + " " + message));
+        return out;
+    }
+
+    @Test
+    void testDrainsInOrderOnce() {
+        LogRing ring = new LogRing(8);
+        ring.append(Log.Level.INFO, "a", null);
+        ring.append(Log.Level.WARN, "b", null);
+
+        assertEquals(List.of("INFO a", "WARN b"), drain(ring));
+        assertTrue(drain(ring).isEmpty(), "Drained entries are consumed");
+        assertEquals(0, ring.getDropped());
+    }
+
+    @Test
+    void testLappedEntriesAreCountedAsDropped() {
+        LogRing ring = new LogRing(4);
+        for (int i = 0; i < 10; i++) {
+            ring.append(Log.Level.INFO, "m" + i, null);
+        }
+
+        assertEquals(List.of("INFO m6", "INFO m7", "INFO m8", "INFO m9"), drain(ring));
+        assertEquals(6, ring.getDropped());
+    }
+
+    @Test
+    void testDumpRecentDoesNotConsume() {
+        LogRing ring = new LogRing(4);
+        for (int i = 0; i < 6; i++) {
+            ring.append(Log.Level.ERROR, "m" + i, null);
+        }
+
+        List<String> dumped = new ArrayList<>();
+        ring.dumpRecent((time, level, thread, message, error) -> dumped.add(message + "@" + thread));
+        String thread = Thread.currentThread().getName();
+        assertEquals(List.of("m2@" + thread, "m3@" + thread, "m4@" + thread, "m5@" + thread), dumped);
+        assertEquals(4, drain(ring).size());
+    }
+
+    @Test
+    @Timeout(10)
+    void testConcurrentWritersAreAllAccountedFor() throws InterruptedException {
+        LogRing ring = new LogRing(1024);
+        int writers = 4;
+        int perWriter = 20_000;
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            threads[w] = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    ring.append(Log.Level.DEBUG, "x", null);
+                }
+            });
+            threads[w].start();
+        }
+
+        long[] delivered = {0};
+        LogRing.Sink counter = (time, level, thread, message, error) -> delivered[0]++;
+        while (delivered[0] + ring.getDropped() < (long) writers * perWriter) {
+            ring.drain(counter);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals((long) writers * perWriter, delivered[0] + ring.getDropped());
+    }
+
+    @Test
+    void testParseLevelFallsBackToInfo() {
+        assertEquals(Log.Level.WARN, Log.parseLevel(" warn "));
+        assertEquals(Log.Level.INFO, Log.parseLevel("verbose"));
+        assertEquals(Log.Level.INFO, Log.parseLevel(null));
+    }
+}
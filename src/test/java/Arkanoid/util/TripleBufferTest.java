@@ -0,0 +1,66 @@
+package Arkanoid.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TripleBufferTest {
+
+    private static class Box {
+        int value;
+    }
+
+    @Test
+    void testAcquireReturnsLatestPublished() {
+        TripleBuffer<Box> buffer = new TripleBuffer<>(Box::new);
+        Box initial = buffer.acquire();
+
+        buffer.back().value = 1;
+        buffer.publish();
+        buffer.back().value = 2;
+        buffer.publish();
+
+        Box latest = buffer.acquire();
+        assertNotSame(initial, latest);
+        assertEquals(2, latest.value, "Older unseen values are overwritten");
+        assertSame(latest, buffer.acquire(), "Nothing new published, keep the same slot");
+    }
+
+    @Test
+    void testProducerNeverWritesTheAcquiredSlot() {
+        TripleBuffer<Box> buffer = new TripleBuffer<>(Box::new);
+        buffer.back().value = 7;
+        buffer.publish();
+        Box front = buffer.acquire();
+
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(front, buffer.back());
+            buffer.back().value = 100 + i;
+            buffer.publish();
+        }
+        assertEquals(7, front.value);
+    }
+
+    @Test
+    @Timeout(10)
+    void testConsumerSeesMonotonicValuesAcrossThreads() throws InterruptedException {
+        TripleBuffer<Box> buffer = new TripleBuffer<>(Box::new);
+        int last = 20_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= last; i++) {
+                buffer.back().value = i;
+                buffer.publish();
+            }
+        });
+        producer.start();
+
+        int seen = 0;
+        while (seen < last) {
+            int value = buffer.acquire().value;
+            assertTrue(value >= seen, "Went back from " + seen + " to " + value);
+            seen = value;
+        }
+        producer.join();
+    }
+}